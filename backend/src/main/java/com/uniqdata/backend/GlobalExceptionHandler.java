@@ -1,7 +1,9 @@
 package com.uniqdata.backend;
 
 import com.uniqdata.backend.core.CoreClientException;
+import com.uniqdata.backend.logging.StackTraceSampler;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -11,15 +13,21 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 
 import java.util.Map;
 
+/**
+ * 4xx(클라이언트 오류)는 반복 스택트레이스를 샘플링해서 기록, 5xx/Core 오류는 항상 스택트레이스 기록.
+ */
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final StackTraceSampler stackTraceSampler;
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<Map<String, String>> handleBadRequest(IllegalArgumentException e, HttpServletRequest req) {
         log.error("[ERROR] IllegalArgumentException | method={} | uri={} | query={} | message={} | exception={} | ip={} | contentType={}",
                 req.getMethod(), req.getRequestURI(), req.getQueryString(),
-                e.getMessage(), e.getClass().getSimpleName(), req.getRemoteAddr(), req.getContentType(), e);
+                e.getMessage(), e.getClass().getSimpleName(), req.getRemoteAddr(), req.getContentType(), stackTraceSampler.sample(e));
         return ResponseEntity.badRequest().body(Map.of("error", e.getMessage()));
     }
 
@@ -27,7 +35,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<Map<String, String>> handleConflict(IllegalStateException e, HttpServletRequest req) {
         log.error("[ERROR] IllegalStateException | method={} | uri={} | query={} | message={} | exception={} | ip={} | contentType={}",
                 req.getMethod(), req.getRequestURI(), req.getQueryString(),
-                e.getMessage(), e.getClass().getSimpleName(), req.getRemoteAddr(), req.getContentType(), e);
+                e.getMessage(), e.getClass().getSimpleName(), req.getRemoteAddr(), req.getContentType(), stackTraceSampler.sample(e));
         return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("error", e.getMessage()));
     }
 
@@ -46,7 +54,7 @@ public class GlobalExceptionHandler {
         String rootCauseClass = e.getCause() != null ? e.getCause().getClass().getSimpleName() : "null";
         log.error("[ERROR] HttpMessageNotReadableException | method={} | uri={} | query={} | message={} | rootCause={} | rootCauseClass={} | contentType={} | ip={}",
                 req.getMethod(), req.getRequestURI(), req.getQueryString(),
-                e.getMessage(), rootCause, rootCauseClass, req.getContentType(), req.getRemoteAddr(), e);
+                e.getMessage(), rootCause, rootCauseClass, req.getContentType(), req.getRemoteAddr(), stackTraceSampler.sample(e));
         return ResponseEntity.badRequest()
                 .body(Map.of("error", "JSON 파싱 실패. Body가 올바른 JSON 형식인지 확인하세요.", "detail", e.getMessage()));
     }
@@ -0,0 +1,24 @@
+package com.uniqdata.backend.cluster;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Cluster", description = "다중 인스턴스 주기 작업 임대·샤드 배정 상태")
+@RestController
+@RequestMapping("/api/v2/cluster")
+@RequiredArgsConstructor
+public class ClusterController {
+
+    private final ClusterScheduler clusterScheduler;
+
+    @Operation(summary = "클러스터 상태", description = "이 노드 id, 살아있는 노드, 이 노드에 배정된 샤드, 작업 임대 목록")
+    @GetMapping("/status")
+    public ResponseEntity<ClusterScheduler.ClusterStatus> status() {
+        return ResponseEntity.ok(clusterScheduler.status());
+    }
+}
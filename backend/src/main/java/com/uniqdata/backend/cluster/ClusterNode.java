@@ -0,0 +1,52 @@
+package com.uniqdata.backend.cluster;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+/**
+ * 실행 중인 Backend 인스턴스. heartbeat-interval 마다 heartbeatAt 갱신, node-timeout 동안 없으면 죽은 것으로 간주.
+ */
+@Entity
+@Table(name = "cluster_nodes")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ClusterNode implements Persistable<String> {
+
+    @Id
+    @Column(name = "node_id")
+    private String nodeId;
+
+    private Instant startedAt;
+
+    @Column(nullable = false)
+    private Instant heartbeatAt;
+
+    @Transient
+    @Builder.Default
+    private boolean isNew = false;
+
+    @Override
+    @JsonIgnore
+    public String getId() {
+        return nodeId;
+    }
+
+    @Override
+    @JsonIgnore
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        isNew = false;
+    }
+}
@@ -0,0 +1,34 @@
+package com.uniqdata.backend.cluster;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 조회도 readOnly 가 아닌 트랜잭션으로 실행 — replica 라우팅 시에도 primary 의 최신 heartbeat 를 읽기 위함.
+ */
+public interface ClusterNodeRepository extends JpaRepository<ClusterNode, String> {
+
+    @Transactional
+    List<ClusterNode> findByHeartbeatAtAfterOrderByNodeIdAsc(Instant cutoff);
+
+    @Transactional
+    @Modifying
+    @Query("update ClusterNode n set n.heartbeatAt = :now where n.nodeId = :nodeId")
+    int heartbeat(@Param("nodeId") String nodeId, @Param("now") Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("delete from ClusterNode n where n.heartbeatAt < :cutoff")
+    int deleteStale(@Param("cutoff") Instant cutoff);
+
+    @Transactional
+    @Modifying
+    @Query("delete from ClusterNode n where n.nodeId = :nodeId")
+    int deregister(@Param("nodeId") String nodeId);
+}
@@ -0,0 +1,246 @@
+package com.uniqdata.backend.cluster;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * 여러 Backend 인스턴스에서 주기 작업을 한 번만 실행하기 위한 DB 임대 기반 스케줄러.
+ * - 노드: cluster_nodes 에 heartbeat. node-timeout 안에 heartbeat 한 노드가 살아있는 노드
+ * - 단일 작업(runExclusive): job_leases 행 임대를 가진 노드만 실행. heartbeat 때 연장되므로 같은 노드가 계속 실행
+ * - 샤드 작업(runSharded): projectId 범위 샤드를 살아있는 노드에 나눠 배정 (노드 id 순서 기준 샤드 % 노드 수),
+ *   샤드마다 임대를 잡고 실행. 배정이 바뀐 샤드는 반납
+ * 노드가 죽으면 node-timeout 후 배정에서 빠지고, 임대는 lease-ttl 후 만료되어 다른 노드가 인수.
+ * 긴 작업은 넘겨받은 LeaseGuard 로 작업 단위마다 소유를 재확인해 인수된 뒤 이어서 실행하지 않음.
+ * cluster.enabled=false(단일 인스턴스)면 DB 없이 항상 실행.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClusterScheduler {
+
+    private static final String SHARD_SEPARATOR = "#";
+
+    private final ClusterNodeRepository nodeRepository;
+    private final JobLeaseRepository leaseRepository;
+
+    @Value("${cluster.enabled:false}")
+    private boolean enabled;
+
+    @Value("${cluster.node-id:}")
+    private String configuredNodeId;
+
+    @Value("${cluster.node-timeout:PT20S}")
+    private Duration nodeTimeout;
+
+    @Value("${cluster.lease-ttl:PT30S}")
+    private Duration leaseTtl;
+
+    @Value("${cluster.shards:8}")
+    private int shardCount;
+
+    @Value("${cluster.shard-range-size:1000}")
+    private long shardRangeSize;
+
+    private String nodeId;
+
+    public record ClusterStatus(String nodeId, boolean enabled, List<ClusterNode> liveNodes,
+                                List<Integer> assignedShards, List<JobLease> leases) {
+    }
+
+    @PostConstruct
+    void init() {
+        nodeId = configuredNodeId != null && !configuredNodeId.isBlank()
+                ? configuredNodeId
+                : hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        if (enabled) {
+            register(Instant.now());
+            log.info("[클러스터] 노드 등록 | nodeId={} | shards={} | leaseTtl={}", nodeId, shardCount, leaseTtl);
+        }
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    @Scheduled(fixedDelayString = "${cluster.heartbeat-interval:PT5S}",
+            initialDelayString = "${cluster.heartbeat-interval:PT5S}")
+    public void heartbeat() {
+        if (!enabled) return;
+        try {
+            Instant now = Instant.now();
+            if (nodeRepository.heartbeat(nodeId, now) == 0) {
+                // 오래 멈췄다가(GC 등) 다른 노드가 정리한 경우 재등록
+                log.warn("[클러스터] 노드 행 없음, 재등록 | nodeId={}", nodeId);
+                register(now);
+            }
+            leaseRepository.renewAll(nodeId, leaseTtl.toNanos());
+            releaseUnassignedShards();
+            int removed = nodeRepository.deleteStale(now.minus(nodeTimeout.multipliedBy(10)));
+            if (removed > 0) {
+                log.info("[클러스터] 죽은 노드 정리 | removed={}", removed);
+            }
+        } catch (RuntimeException e) {
+            // DB 장애 시 임대가 만료되어 다른 노드가 인수할 수 있음. 다음 주기에 재시도
+            log.error("[클러스터] heartbeat 실패 | nodeId={} | error={}", nodeId, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    void leave() {
+        if (!enabled) return;
+        try {
+            leaseRepository.releaseAll(nodeId);
+            nodeRepository.deregister(nodeId);
+            log.info("[클러스터] 노드 종료, 임대 반납 | nodeId={}", nodeId);
+        } catch (RuntimeException e) {
+            log.warn("[클러스터] 종료 시 임대 반납 실패, lease-ttl 후 만료됨 | nodeId={} | error={}", nodeId, e.getMessage());
+        }
+    }
+
+    /**
+     * 클러스터 전체에서 한 노드만 실행. 임대를 못 잡으면 실행하지 않고 false.
+     */
+    public boolean runExclusive(String job, Consumer<LeaseGuard> task) {
+        if (enabled && !acquire(job)) {
+            log.debug("[클러스터] 다른 노드가 실행 중, 건너뜀 | job={}", job);
+            return false;
+        }
+        task.accept(guard(job));
+        return true;
+    }
+
+    /**
+     * 이 노드에 배정된 projectId 샤드마다 임대를 잡고 실행. 실행한 샤드 수 반환.
+     * 샤드 하나가 실패해도 나머지 샤드는 계속 실행.
+     */
+    public int runSharded(String job, BiConsumer<ProjectShard, LeaseGuard> task) {
+        List<Integer> assigned = assignedShards();
+        int ran = 0;
+        for (int i = 0; i < shardCount; i++) {
+            if (!assigned.contains(i)) continue;
+            String leaseName = job + SHARD_SEPARATOR + i;
+            if (enabled && !acquire(leaseName)) {
+                // 이전 배정 노드가 아직 반납 전 (배정 변경 직후 또는 죽은 노드의 임대 만료 대기)
+                log.debug("[클러스터] 샤드 임대 대기 | job={} | shard={}", job, i);
+                continue;
+            }
+            ProjectShard shard = new ProjectShard(i, shardCount, shardRangeSize);
+            try {
+                task.accept(shard, guard(leaseName));
+                ran++;
+            } catch (RuntimeException e) {
+                log.error("[클러스터] 샤드 실행 실패 | job={} | shard={} | error={}", job, shard, e.getMessage(), e);
+            }
+        }
+        return ran;
+    }
+
+    /** 살아있는 노드를 id 순으로 정렬해 샤드 i 를 (i % 노드 수) 번째 노드에 배정 */
+    public List<Integer> assignedShards() {
+        List<Integer> shards = new ArrayList<>();
+        if (!enabled) {
+            for (int i = 0; i < shardCount; i++) shards.add(i);
+            return shards;
+        }
+        List<String> live = liveNodes().stream().map(ClusterNode::getNodeId).toList();
+        int position = live.indexOf(nodeId);
+        if (position < 0) {
+            return shards;
+        }
+        for (int i = 0; i < shardCount; i++) {
+            if (i % live.size() == position) shards.add(i);
+        }
+        return shards;
+    }
+
+    public ClusterStatus status() {
+        if (!enabled) {
+            return new ClusterStatus(nodeId, false, List.of(), assignedShards(), List.of());
+        }
+        return new ClusterStatus(nodeId, true, liveNodes(), assignedShards(), leaseRepository.findAllByOrderByNameAsc());
+    }
+
+    /** 노드 합류/이탈로 배정이 바뀐 샤드 임대를 다음 실행 전에 넘겨줌 */
+    private void releaseUnassignedShards() {
+        List<Integer> assigned = assignedShards();
+        for (JobLease lease : leaseRepository.findByOwner(nodeId)) {
+            int separator = lease.getName().lastIndexOf(SHARD_SEPARATOR);
+            if (separator < 0) continue;
+            int shard = Integer.parseInt(lease.getName().substring(separator + 1));
+            if (!assigned.contains(shard) && leaseRepository.release(lease.getName(), nodeId) == 1) {
+                log.info("[클러스터] 샤드 배정 변경, 임대 반납 | lease={}", lease.getName());
+            }
+        }
+    }
+
+    private List<ClusterNode> liveNodes() {
+        return nodeRepository.findByHeartbeatAtAfterOrderByNodeIdAsc(Instant.now().minus(nodeTimeout));
+    }
+
+    private LeaseGuard guard(String leaseName) {
+        if (!enabled) return LeaseGuard.NONE;
+        return () -> {
+            try {
+                if (leaseRepository.renewIfOwned(leaseName, nodeId, leaseTtl.toNanos()) == 1) {
+                    return true;
+                }
+                log.warn("[클러스터] 실행 중 임대 상실, 작업 중단 | lease={} | nodeId={}", leaseName, nodeId);
+            } catch (RuntimeException e) {
+                // 소유를 확인할 수 없으면 인수됐다고 보고 중단
+                log.warn("[클러스터] 임대 확인 실패, 작업 중단 | lease={} | nodeId={} | error={}", leaseName, nodeId, e.getMessage());
+            }
+            return false;
+        };
+    }
+
+    private boolean acquire(String leaseName) {
+        if (!leaseRepository.existsById(leaseName)) {
+            try {
+                leaseRepository.saveAndFlush(JobLease.builder()
+                        .name(leaseName)
+                        .leasedUntil(Instant.EPOCH)
+                        .isNew(true)
+                        .build());
+            } catch (DataIntegrityViolationException e) {
+                // 다른 노드가 먼저 생성
+            }
+        }
+        return leaseRepository.tryAcquire(leaseName, nodeId, leaseTtl.toNanos()) == 1;
+    }
+
+    private void register(Instant now) {
+        try {
+            nodeRepository.saveAndFlush(ClusterNode.builder()
+                    .nodeId(nodeId)
+                    .startedAt(now)
+                    .heartbeatAt(now)
+                    .isNew(true)
+                    .build());
+        } catch (DataIntegrityViolationException e) {
+            nodeRepository.heartbeat(nodeId, now);
+        }
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "node";
+        }
+    }
+}
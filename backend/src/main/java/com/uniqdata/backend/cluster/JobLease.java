@@ -0,0 +1,53 @@
+package com.uniqdata.backend.cluster;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+/**
+ * 작업(또는 작업 샤드) 실행 임대. leasedUntil 전까지는 owner 노드만 실행.
+ * owner 가 heartbeat 로 계속 연장하므로, 노드가 죽으면 lease-ttl 후 다른 노드가 인수.
+ */
+@Entity
+@Table(name = "job_leases")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class JobLease implements Persistable<String> {
+
+    /** 작업 이름. 샤드 작업은 "작업이름#샤드번호" */
+    @Id
+    private String name;
+
+    private String owner;
+
+    @Column(nullable = false)
+    private Instant leasedUntil;
+
+    @Transient
+    @Builder.Default
+    private boolean isNew = false;
+
+    @Override
+    @JsonIgnore
+    public String getId() {
+        return name;
+    }
+
+    @Override
+    @JsonIgnore
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        isNew = false;
+    }
+}
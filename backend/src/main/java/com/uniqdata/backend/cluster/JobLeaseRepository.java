@@ -0,0 +1,51 @@
+package com.uniqdata.backend.cluster;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * 임대 획득/연장/반납은 조건부 UPDATE 1건 — 동시에 시도해도 DB 행 잠금으로 한 노드만 성공 (갱신 건수 1).
+ * 만료 판정과 새 만료 시각은 DB 시계 기준 (HQL instant → SQL current_timestamp). 노드 시계가 어긋나도 두 노드가 동시에 임대를 갖지 않음.
+ */
+public interface JobLeaseRepository extends JpaRepository<JobLease, String> {
+
+    @Transactional
+    List<JobLease> findAllByOrderByNameAsc();
+
+    @Transactional
+    List<JobLease> findByOwner(String owner);
+
+    /** 비어 있거나(만료) 이미 내 것인 임대만 획득 */
+    @Transactional
+    @Modifying
+    @Query("update JobLease l set l.owner = :owner, l.leasedUntil = instant + :ttlNanos nanosecond "
+            + "where l.name = :name and (l.owner = :owner or l.owner is null or l.leasedUntil < instant)")
+    int tryAcquire(@Param("name") String name, @Param("owner") String owner, @Param("ttlNanos") long ttlNanos);
+
+    /** 만료 전이고 내 것인 임대만 연장. 실행 중 소유 재확인용 (만료 후엔 다른 노드가 인수했을 수 있어 재획득하지 않음) */
+    @Transactional
+    @Modifying
+    @Query("update JobLease l set l.leasedUntil = instant + :ttlNanos nanosecond "
+            + "where l.name = :name and l.owner = :owner and l.leasedUntil >= instant")
+    int renewIfOwned(@Param("name") String name, @Param("owner") String owner, @Param("ttlNanos") long ttlNanos);
+
+    @Transactional
+    @Modifying
+    @Query("update JobLease l set l.leasedUntil = instant + :ttlNanos nanosecond where l.owner = :owner")
+    int renewAll(@Param("owner") String owner, @Param("ttlNanos") long ttlNanos);
+
+    @Transactional
+    @Modifying
+    @Query("update JobLease l set l.owner = null where l.name = :name and l.owner = :owner")
+    int release(@Param("name") String name, @Param("owner") String owner);
+
+    @Transactional
+    @Modifying
+    @Query("update JobLease l set l.owner = null where l.owner = :owner")
+    int releaseAll(@Param("owner") String owner);
+}
@@ -0,0 +1,15 @@
+package com.uniqdata.backend.cluster;
+
+/**
+ * 클러스터 작업 실행 중 임대 소유 재확인. 긴 작업은 작업 단위(페이지, 참여자 등) 사이마다 확인하고
+ * false 면 즉시 중단 — heartbeat 지연·DB 장애로 임대가 만료되어 다른 노드가 인수했을 수 있음.
+ * 확인이 성공하면 임대도 lease-ttl 만큼 연장됨.
+ */
+@FunctionalInterface
+public interface LeaseGuard {
+
+    /** 클러스터 밖(수동 실행, cluster.enabled=false)용. 항상 소유 */
+    LeaseGuard NONE = () -> true;
+
+    boolean stillOwned();
+}
@@ -0,0 +1,13 @@
+package com.uniqdata.backend.cluster;
+
+/**
+ * projectId 범위 샤드. projectId 를 rangeSize 단위 구간으로 나눠 구간을 count 개 샤드에 번갈아 배정
+ * (구간 번호 % count == index). 조회 쿼리가 같은 식으로 거르며, 노드마다 같은 설정이면 계산 결과가 같아 조율 불필요.
+ */
+public record ProjectShard(int index, int count, long rangeSize) {
+
+    @Override
+    public String toString() {
+        return index + "/" + count;
+    }
+}
@@ -1,5 +1,6 @@
 package com.uniqdata.backend.core;
 
+import com.uniqdata.backend.logging.MaskedAddress;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -8,6 +9,9 @@ import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.List;
 
 /**
  * Core (Nest.js 블록체인 서버) API 호출.
@@ -30,8 +34,10 @@ public class CoreClient {
         var body = new CoreEscrowCreateRequest(projectId, participantAddress, amountXrp);
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
-        log.info("[Core] createEscrow 요청 | url={} | projectId={} | participantAddress={}... | amountXrp={}",
-                url, projectId, participantAddress != null ? participantAddress.substring(0, Math.min(12, participantAddress.length())) + "..." : "null", amountXrp);
+        if (log.isInfoEnabled()) {
+            log.info("[Core] createEscrow 요청 | url={} | projectId={} | participantAddress={} | amountXrp={}",
+                    url, projectId, MaskedAddress.of(participantAddress), amountXrp);
+        }
         try {
             var response = restTemplate.postForEntity(
                     url,
@@ -60,8 +66,10 @@ public class CoreClient {
         var body = new CoreEscrowCancelRequest(ownerAddress, offerSequence);
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
-        log.info("[Core] cancelEscrow 요청 | url={} | ownerAddress={}... | offerSequence={}",
-                url, ownerAddress != null ? ownerAddress.substring(0, Math.min(12, ownerAddress.length())) + "..." : "null", offerSequence);
+        if (log.isInfoEnabled()) {
+            log.info("[Core] cancelEscrow 요청 | url={} | ownerAddress={} | offerSequence={}",
+                    url, MaskedAddress.of(ownerAddress), offerSequence);
+        }
         try {
             var response = restTemplate.postForEntity(
                     url,
@@ -100,6 +108,57 @@ public class CoreClient {
         throw new CoreClientException("Core summary 조회 실패");
     }
 
+    /**
+     * 원장상 에스크로 일괄 조회 (정합성 검사용). Core 가 account_objects 1페이지씩 조회해 반환.
+     *
+     * @param marker      이전 페이지 응답의 marker. 첫 페이지는 null
+     * @param ledgerIndex 첫 페이지 응답의 ledgerIndex. 다음 페이지를 같은 원장 버전으로 고정 (첫 페이지는 null = validated)
+     */
+    public CoreEscrowStatusPage getEscrowStatusPage(String marker, int limit, Long ledgerIndex) {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromHttpUrl(baseUrl + "/escrow/status")
+                .queryParam("limit", limit);
+        if (marker != null) {
+            builder.queryParam("marker", marker);
+        }
+        if (ledgerIndex != null) {
+            builder.queryParam("ledgerIndex", ledgerIndex);
+        }
+        var uri = builder.encode().build().toUri();
+        log.debug("[Core] getEscrowStatusPage 요청 | url={} | limit={}", uri, limit);
+        try {
+            var response = restTemplate.getForEntity(uri, CoreEscrowStatusPage.class);
+            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+                return response.getBody();
+            }
+            log.error("[Core] getEscrowStatusPage 비정상 응답 | status={}", response.getStatusCode());
+        } catch (Exception e) {
+            log.error("[Core] getEscrowStatusPage 실패 | url={} | error={} | cause={}",
+                    uri, e.getMessage(), e.getCause() != null ? e.getCause().getMessage() : "null", e);
+            throw new CoreClientException("Core 에스크로 상태 조회 실패: " + e.getMessage());
+        }
+        throw new CoreClientException("Core 에스크로 상태 조회 실패");
+    }
+
+    /**
+     * EscrowCreate 트랜잭션 조회 (저널 복구용). 원장 에스크로의 txHash 로 OfferSequence 복원.
+     */
+    public CoreEscrowCreateTx getEscrowCreateTx(String txHash) {
+        var uri = UriComponentsBuilder.fromHttpUrl(baseUrl + "/escrow/tx/{txHash}")
+                .buildAndExpand(txHash).encode().toUri();
+        log.debug("[Core] getEscrowCreateTx 요청 | url={}", uri);
+        try {
+            var response = restTemplate.getForEntity(uri, CoreEscrowCreateTx.class);
+            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+                return response.getBody();
+            }
+            log.error("[Core] getEscrowCreateTx 비정상 응답 | status={}", response.getStatusCode());
+        } catch (Exception e) {
+            log.error("[Core] getEscrowCreateTx 실패 | url={} | error={}", uri, e.getMessage());
+            throw new CoreClientException("Core EscrowCreate 조회 실패: " + e.getMessage());
+        }
+        throw new CoreClientException("Core EscrowCreate 조회 실패");
+    }
+
     // --- DTOs (Core API 스펙에 맞춤) ---
 
     public record CoreEscrowCreateRequest(String projectId, String participantAddress, long amountXrp) {}
@@ -121,4 +180,32 @@ public class CoreClient {
             double escrow_balance_xrp,
             String network
     ) {}
+
+    public record CoreEscrowStatusItem(
+            String txHash,
+            String ownerAddress,
+            String destination,
+            Long destinationTag,
+            String amountDrops,
+            Long finishAfter,
+            Long cancelAfter
+    ) {}
+
+    public record CoreEscrowCreateTx(
+            String txHash,
+            String ownerAddress,
+            long offerSequence,
+            String destination,
+            Long destinationTag,
+            String amountDrops,
+            Long ledgerIndex,
+            boolean validated
+    ) {}
+
+    public record CoreEscrowStatusPage(
+            String ownerAddress,
+            Long ledgerIndex,
+            List<CoreEscrowStatusItem> escrows,
+            String marker
+    ) {}
 }
@@ -0,0 +1,106 @@
+package com.uniqdata.backend.datasource;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * read-your-writes 보장. 참여자 주소별 최근 쓰기 시각을 기억해 두고,
+ * window 안에 같은 주소를 읽는 readOnly 트랜잭션은 replica 대신 primary 에서 읽도록 고정.
+ * 주소별 기록은 이 노드 메모리에만 있으므로, 쓰기 응답에 쿠키(uniq-last-write, 값은 쓰기 시각 epoch ms)를 함께 내려
+ * 다음 요청이 다른 노드로 가도 window 안이면 그 클라이언트의 읽기는 primary 로 고정함.
+ * replica 를 쓰지 않으면(replica.enabled=false) 고정해도 라우팅에는 영향 없음.
+ */
+@Component
+public class ReadYourWritesTracker {
+
+    static final String WRITE_COOKIE = "uniq-last-write";
+    private static final int MAX_KEYS = 10_000;
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+
+    @Value("${replica.read-your-writes-window:PT30S}")
+    private Duration window;
+
+    private final Map<String, Long> lastWriteAt = new ConcurrentHashMap<>();
+
+    public static boolean isPrimaryPinned() {
+        return Boolean.TRUE.equals(PRIMARY_PINNED.get());
+    }
+
+    public void recordWrite(String key) {
+        if (key == null) return;
+        if (lastWriteAt.size() >= MAX_KEYS) {
+            long now = System.nanoTime();
+            lastWriteAt.values().removeIf(at -> now - at > window.toNanos());
+        }
+        lastWriteAt.put(key, System.nanoTime());
+        markClient();
+    }
+
+    /**
+     * 최근 쓰기가 있는 key 이거나 요청한 클라이언트가 window 안에 쓴 적이 있으면 현재 트랜잭션이 끝날 때까지 primary 로 고정.
+     * 트랜잭션의 첫 쿼리 전에 호출해야 함.
+     */
+    public void pinPrimaryIfRecentWrite(String key) {
+        if (!recentWrite(key) && !clientWroteRecently()) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive() || isPrimaryPinned()) return;
+        PRIMARY_PINNED.set(Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                PRIMARY_PINNED.remove();
+            }
+        });
+    }
+
+    private boolean recentWrite(String key) {
+        if (key == null) return false;
+        Long at = lastWriteAt.get(key);
+        if (at == null) return false;
+        if (System.nanoTime() - at > window.toNanos()) {
+            lastWriteAt.remove(key, at);
+            return false;
+        }
+        return true;
+    }
+
+    /** 쓰기 요청의 응답에 쓰기 시각 쿠키를 내림 (요청당 1번). 요청 밖(배치·복구)에서의 쓰기는 노드 메모리 기록만 */
+    private void markClient() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) return;
+        HttpServletResponse response = attributes.getResponse();
+        if (response == null || attributes.getAttribute(WRITE_COOKIE, RequestAttributes.SCOPE_REQUEST) != null) return;
+        attributes.setAttribute(WRITE_COOKIE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        Cookie cookie = new Cookie(WRITE_COOKIE, Long.toString(System.currentTimeMillis()));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, window.toSeconds()));
+        response.addCookie(cookie);
+    }
+
+    /** 쿠키의 쓰기 시각이 window 안인지. 노드 간 시계 차이만큼은 앞선 시각도 허용 */
+    private boolean clientWroteRecently() {
+        if (!(RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes)) return false;
+        Cookie[] cookies = attributes.getRequest().getCookies();
+        if (cookies == null) return false;
+        for (Cookie cookie : cookies) {
+            if (!WRITE_COOKIE.equals(cookie.getName())) continue;
+            try {
+                long age = System.currentTimeMillis() - Long.parseLong(cookie.getValue());
+                return Math.abs(age) <= window.toMillis();
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,74 @@
+package com.uniqdata.backend.datasource;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * replica 사용 가능 여부 판단.
+ * max-lag > 0 이면 primary 의 replica_heartbeat 에 주기적으로 현재 시각을 쓰고 replica 에서 읽어
+ * 복제 지연이 max-lag 이하일 때만 replica 사용. max-lag = 0 이면 접속 가능 여부만 확인 (복제 없는 로컬 H2 등).
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private static final String CREATE_HEARTBEAT =
+            "CREATE TABLE IF NOT EXISTS replica_heartbeat (id INT PRIMARY KEY, beat_at BIGINT NOT NULL)";
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final Duration maxLag;
+
+    private volatile boolean replicaUsable;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, Duration maxLag) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.maxLag = maxLag;
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    @PostConstruct
+    void init() {
+        if (!maxLag.isZero()) {
+            primary.execute(CREATE_HEARTBEAT);
+        }
+        check();
+    }
+
+    @Scheduled(fixedDelayString = "${replica.lag-check-interval:PT1S}")
+    public void check() {
+        boolean usable;
+        long lagMillis = -1;
+        try {
+            if (maxLag.isZero()) {
+                replica.queryForObject("SELECT 1", Integer.class);
+                usable = true;
+            } else {
+                long now = System.currentTimeMillis();
+                if (primary.update("UPDATE replica_heartbeat SET beat_at = ? WHERE id = 1", now) == 0) {
+                    primary.update("INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, ?)", now);
+                }
+                Long beatAt = replica.queryForObject("SELECT beat_at FROM replica_heartbeat WHERE id = 1", Long.class);
+                lagMillis = beatAt != null ? System.currentTimeMillis() - beatAt : Long.MAX_VALUE;
+                usable = lagMillis <= maxLag.toMillis();
+            }
+        } catch (RuntimeException e) {
+            usable = false;
+            if (replicaUsable) {
+                log.warn("[Replica] 상태 확인 실패 → primary 로 읽기 | error={}", e.getMessage());
+            }
+        }
+        if (usable != replicaUsable) {
+            log.info("[Replica] 사용 여부 변경 | usable={} | lagMillis={} | maxLag={}", usable, lagMillis, maxLag);
+        }
+        replicaUsable = usable;
+    }
+}
@@ -0,0 +1,49 @@
+package com.uniqdata.backend.datasource;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * 로컬 H2 두 인스턴스로 replica 라우팅을 확인할 때 사용 (replica.init-schema=true).
+ * JPA 가 primary 에 만든 스키마를 H2 SCRIPT NODATA 로 뽑아 replica 에 그대로 생성. 데이터는 복제하지 않음.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@ConditionalOnProperty(name = {"replica.enabled", "replica.init-schema"}, havingValue = "true")
+public class ReplicaSchemaInitializer {
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+
+    public ReplicaSchemaInitializer(@Qualifier("primaryDataSource") DataSource primary,
+                                    @Qualifier("replicaDataSource") DataSource replica) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+    }
+
+    @PostConstruct
+    void copySchema() {
+        List<String> statements = primary.queryForList("SCRIPT NODATA", String.class);
+        int applied = 0;
+        for (String sql : statements) {
+            if (!sql.startsWith("CREATE") && !sql.startsWith("ALTER") || sql.startsWith("CREATE USER")) continue;
+            try {
+                replica.execute(sql);
+                applied++;
+            } catch (DataAccessException e) {
+                log.debug("[Replica] 스키마 문장 건너뜀 | sql={} | error={}", sql, e.getMessage());
+            }
+        }
+        log.info("[Replica] primary 스키마 복사 완료 | statements={}", applied);
+    }
+}
@@ -0,0 +1,13 @@
+package com.uniqdata.backend.escrow;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Schema(description = "Core → Backend 에스크로 이벤트 배치")
+public class EscrowEventBatch {
+
+    private List<EscrowLedgerEvent> events;
+}
@@ -0,0 +1,37 @@
+package com.uniqdata.backend.escrow;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Tag(name = "Internal", description = "Core → Backend 내부 연동")
+@RestController
+@RequestMapping("/api/v2/internal/escrow-events")
+@RequiredArgsConstructor
+public class EscrowEventIngestController {
+
+    private final EscrowStatusService escrowStatusService;
+
+    @Operation(summary = "에스크로 원장 이벤트 수신", description = "Core 가 XRPL 스트림에서 감지한 EscrowCreate/Finish/Cancel 을 배치로 전달. 중복·역순 이벤트는 ignored, 참여자 행이 아직 없는 이벤트는 보관 후 재시도(deferred)")
+    @PostMapping
+    public ResponseEntity<EscrowStatusService.IngestResult> ingest(@RequestBody EscrowEventBatch batch) {
+        return ResponseEntity.ok(escrowStatusService.ingest(batch.getEvents()));
+    }
+
+    @Operation(summary = "수신한 최대 ledger index", description = "Core 가 (재)시작·재연결 시 이 다음 ledger 부터 account_tx 로 누락분을 보충. 수신 이력 없으면 ledgerIndex=null")
+    @GetMapping("/cursor")
+    public ResponseEntity<Map<String, Object>> cursor() {
+        Map<String, Object> body = new HashMap<>();
+        body.put("ledgerIndex", escrowStatusService.cursor());
+        return ResponseEntity.ok(body);
+    }
+}
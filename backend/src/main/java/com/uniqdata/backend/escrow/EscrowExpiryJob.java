@@ -0,0 +1,65 @@
+package com.uniqdata.backend.escrow;
+
+import com.uniqdata.backend.cluster.ClusterScheduler;
+import com.uniqdata.backend.cluster.LeaseGuard;
+import com.uniqdata.backend.cluster.ProjectShard;
+import com.uniqdata.backend.logging.MaskedAddress;
+import com.uniqdata.backend.participant.ParticipantEscrowRef;
+import com.uniqdata.backend.participant.ParticipantService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * CancelAfter 가 지난 에스크로 정리 — Core 취소 후 참여자 비활성화 (참여 철회와 같은 경로, 저널 기록 포함).
+ * escrow.expiry.cron 미설정 시 비활성 ("-"). 여러 인스턴스면 projectId 샤드를 나눠 처리.
+ * 대상은 원장 이벤트 읽기 모델(participant_escrow_status) 기준이라 Core 이벤트 연동이 켜져 있어야 함.
+ * 참여자마다 샤드 임대를 재확인해, 실행 중 다른 노드가 인수했으면 남은 건은 그 노드에 맡김.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EscrowExpiryJob {
+
+    private final EscrowStatusRepository escrowStatusRepository;
+    private final ParticipantService participantService;
+    private final ClusterScheduler clusterScheduler;
+
+    @Value("${escrow.expiry.batch-size:100}")
+    private int batchSize;
+
+    @Scheduled(cron = "${escrow.expiry.cron:-}")
+    public void run() {
+        clusterScheduler.runSharded("escrow-expiry", this::cancelExpired);
+    }
+
+    void cancelExpired(ProjectShard shard, LeaseGuard lease) {
+        List<ParticipantEscrowRef> expired = escrowStatusRepository.findExpiredActive(Instant.now(),
+                shard.rangeSize(), shard.count(), shard.index(), PageRequest.ofSize(batchSize));
+        if (expired.isEmpty()) return;
+        int cancelled = 0;
+        int processed = 0;
+        for (ParticipantEscrowRef ref : expired) {
+            if (!lease.stillOwned()) {
+                log.warn("[만료정리] 샤드 임대 상실, 중단 | shard={} | cancelled={} | remaining={}",
+                        shard, cancelled, expired.size() - processed);
+                return;
+            }
+            processed++;
+            try {
+                participantService.withdraw(ref.projectId(), ref.participantAddress());
+                cancelled++;
+            } catch (RuntimeException e) {
+                log.warn("[만료정리] 에스크로 취소 실패, 다음 주기 재시도 | participantId={} | participantAddress={} | error={}",
+                        ref.id(), MaskedAddress.of(ref.participantAddress()), e.getMessage());
+            }
+        }
+        log.info("[만료정리] 샤드 처리 | shard={} | expired={} | cancelled={}", shard, expired.size(), cancelled);
+    }
+}
@@ -0,0 +1,21 @@
+package com.uniqdata.backend.escrow;
+
+/**
+ * Core 가 XRPL 트랜잭션 스트림에서 만들어 보내는 에스크로 생명주기 이벤트.
+ * ownerAddress + offerSequence 로 참여자 식별 (createEscrow 응답과 같은 값).
+ */
+public record EscrowLedgerEvent(
+        Type type,
+        String txHash,
+        String ownerAddress,
+        Long offerSequence,
+        Long ledgerIndex,
+        String destination,
+        Long destinationTag,
+        String amountDrops,
+        Long finishAfter,
+        Long cancelAfter
+) {
+
+    public enum Type { CREATED, FINISHED, CANCELLED }
+}
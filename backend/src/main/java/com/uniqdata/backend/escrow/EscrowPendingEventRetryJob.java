@@ -0,0 +1,23 @@
+package com.uniqdata.backend.escrow;
+
+import com.uniqdata.backend.cluster.ClusterScheduler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 참여자 행이 없어 보관한 원장 이벤트 주기 재시도. 여러 인스턴스면 임대를 가진 노드 하나만 실행.
+ */
+@Component
+@RequiredArgsConstructor
+public class EscrowPendingEventRetryJob {
+
+    private final EscrowStatusService escrowStatusService;
+    private final ClusterScheduler clusterScheduler;
+
+    @Scheduled(fixedDelayString = "${escrow.events.pending-retry-interval:PT10S}",
+            initialDelayString = "${escrow.events.pending-retry-interval:PT10S}")
+    public void run() {
+        clusterScheduler.runExclusive("escrow-pending-events", lease -> escrowStatusService.retryPending());
+    }
+}
@@ -0,0 +1,69 @@
+package com.uniqdata.backend.escrow;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+
+/**
+ * 참여자별 에스크로 상태 (읽기 모델). Core 가 보내는 원장 이벤트로만 갱신.
+ * 키는 참여자 id. 이벤트가 아직 없으면 행이 없음.
+ */
+@Entity
+@Table(name = "participant_escrow_status", indexes = {
+        @Index(name = "idx_escrow_status_project", columnList = "project_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EscrowStatus implements Persistable<Long> {
+
+    @Id
+    @Column(name = "participant_id")
+    private Long participantId;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private State state;
+
+    /** 마지막으로 반영한 이벤트의 트랜잭션 / ledger index. 더 오래된 이벤트는 무시 */
+    private String lastTxHash;
+    private Long lastLedgerIndex;
+
+    private Instant finishAfter;
+    private Instant cancelAfter;
+    private Instant updatedAt;
+
+    @Transient
+    @Builder.Default
+    private boolean isNew = false;
+
+    @Override
+    public Long getId() {
+        return participantId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        isNew = false;
+    }
+
+    public enum State {
+        ACTIVE,     // 원장에 에스크로 존재
+        FINISHED,   // EscrowFinish — 참여자에게 지급됨
+        CANCELLED,  // EscrowCancel — 에스크로 지갑으로 반환
+        EXPIRED     // 조회 시 계산: ACTIVE 인데 CancelAfter 지남 (취소 가능 상태)
+    }
+}
@@ -0,0 +1,27 @@
+package com.uniqdata.backend.escrow;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "Participants", description = "참여 신청·철회 (내부에서 Core 에스크로 생성/취소 호출)")
+@RestController
+@RequestMapping("/api/v2/projects/{projectId}/participants/escrow-status")
+@RequiredArgsConstructor
+public class EscrowStatusController {
+
+    private final EscrowStatusService escrowStatusService;
+
+    @Operation(summary = "참여자 에스크로 상태", description = "원장 이벤트로 갱신되는 읽기 모델 조회. ACTIVE / FINISHED / CANCELLED / EXPIRED(CancelAfter 경과)")
+    @GetMapping
+    public ResponseEntity<List<EscrowStatusView>> list(@PathVariable Long projectId) {
+        return ResponseEntity.ok(escrowStatusService.listByProject(projectId));
+    }
+}
@@ -0,0 +1,35 @@
+package com.uniqdata.backend.escrow;
+
+import com.uniqdata.backend.participant.ParticipantEscrowRef;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface EscrowStatusRepository extends JpaRepository<EscrowStatus, Long> {
+
+    List<EscrowStatus> findByProjectId(Long projectId);
+
+    @Query("select max(s.lastLedgerIndex) from EscrowStatus s")
+    Long findMaxLedgerIndex();
+
+    /**
+     * CancelAfter 가 지났는데 원장상 ACTIVE 이고 참여자도 활성인 에스크로 (만료 정리 대상).
+     * projectId 범위 샤드 조건: (projectId / rangeSize) % shardCount = shardIndex
+     */
+    @Query("select new com.uniqdata.backend.participant.ParticipantEscrowRef("
+            + "p.id, p.projectId, p.participantAddress, p.escrowTxHash, p.active, p.enrolledAt, p.withdrawnAt) "
+            + "from EscrowStatus s join Participant p on p.id = s.participantId "
+            + "where s.state = com.uniqdata.backend.escrow.EscrowStatus$State.ACTIVE and s.cancelAfter < :now "
+            + "and p.active = true "
+            + "and mod(s.projectId / :rangeSize, :shardCount) = :shardIndex "
+            + "order by s.cancelAfter")
+    List<ParticipantEscrowRef> findExpiredActive(@Param("now") Instant now,
+                                                 @Param("rangeSize") long rangeSize,
+                                                 @Param("shardCount") int shardCount,
+                                                 @Param("shardIndex") int shardIndex,
+                                                 Pageable pageable);
+}
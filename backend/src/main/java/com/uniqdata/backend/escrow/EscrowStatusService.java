@@ -0,0 +1,254 @@
+package com.uniqdata.backend.escrow;
+
+import com.uniqdata.backend.logging.MaskedAddress;
+import com.uniqdata.backend.participant.Participant;
+import com.uniqdata.backend.participant.ParticipantRepository;
+import com.uniqdata.backend.project.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 원장 이벤트 기반 에스크로 상태 읽기 모델.
+ * Core 가 검증된(validated) 에스크로 트랜잭션을 배치로 밀어주면 참여자별 상태 행을 갱신하고,
+ * 조회는 이 테이블만 읽음 (요청 경로에서 Core/XRPL 호출 없음).
+ * 이벤트는 중복·역순 도착 가능: ledger index 가 저장값보다 작으면 무시, 같으면 종료 상태 우선.
+ * 참여자 행이 아직 없는 이벤트는 버리지 않고 보관했다가 retryPending 으로 다시 반영.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EscrowStatusService {
+
+    /** XRPL Ripple epoch (2000-01-01T00:00:00Z) → Unix epoch 초 */
+    private static final long RIPPLE_EPOCH_OFFSET = 946_684_800L;
+
+    private final EscrowStatusRepository escrowStatusRepository;
+    private final ParticipantRepository participantRepository;
+    private final ProjectRepository projectRepository;
+    private final PendingEscrowEventRepository pendingEventRepository;
+
+    @Value("${escrow.events.pending-max-age:PT1H}")
+    private Duration pendingMaxAge;
+
+    @Value("${escrow.events.pending-batch-size:500}")
+    private int pendingBatchSize;
+
+    public record IngestResult(int received, int applied, int ignored, int deferred) {
+    }
+
+    public record RetryResult(int retried, int applied, int stillPending, int expired) {
+    }
+
+    /**
+     * 이벤트 배치 반영. 참여자 행이 아직 없는 이벤트는 pending_escrow_events 에 보관 (deferred) 후 재시도.
+     */
+    @Transactional
+    public IngestResult ingest(List<EscrowLedgerEvent> events) {
+        if (events == null || events.isEmpty()) {
+            return new IngestResult(0, 0, 0, 0);
+        }
+        Applied result = applyAll(events);
+        if (!result.unmatched().isEmpty()) {
+            Instant now = Instant.now();
+            pendingEventRepository.saveAll(result.unmatched().stream()
+                    .map(e -> PendingEscrowEvent.of(e, now))
+                    .toList());
+        }
+        log.info("[에스크로상태] 이벤트 반영 | received={} | applied={} | ignored={} | deferred={}",
+                events.size(), result.applied(), result.ignored(), result.unmatched().size());
+        return new IngestResult(events.size(), result.applied(), result.ignored(), result.unmatched().size());
+    }
+
+    /**
+     * 보관 중인 이벤트 재시도. 참여자가 생긴 이벤트는 반영 후 삭제, pending-max-age 지난 이벤트는 버림.
+     */
+    @Transactional
+    public RetryResult retryPending() {
+        int expired = pendingEventRepository.deleteReceivedBefore(Instant.now().minus(pendingMaxAge));
+        if (expired > 0) {
+            log.warn("[에스크로상태] 참여자 없는 이벤트 보관 기한 초과, 삭제 | expired={} | maxAge={}", expired, pendingMaxAge);
+        }
+        int retried = 0;
+        int applied = 0;
+        int stillPending = 0;
+        long afterId = 0L;
+        while (true) {
+            List<PendingEscrowEvent> pending =
+                    pendingEventRepository.findByIdGreaterThanOrderByIdAsc(afterId, PageRequest.ofSize(pendingBatchSize));
+            if (pending.isEmpty()) break;
+            afterId = pending.get(pending.size() - 1).getId();
+            Applied result = applyAll(pending.stream().map(PendingEscrowEvent::toEvent).toList());
+            Set<String> unmatchedKeys = result.unmatched().stream()
+                    .map(e -> key(e.ownerAddress(), e.offerSequence()))
+                    .collect(Collectors.toSet());
+            List<PendingEscrowEvent> resolved = pending.stream()
+                    .filter(p -> !unmatchedKeys.contains(key(p.getOwnerAddress(), p.getOfferSequence())))
+                    .toList();
+            pendingEventRepository.deleteAllInBatch(resolved);
+            retried += pending.size();
+            applied += result.applied();
+            stillPending += pending.size() - resolved.size();
+            if (pending.size() < pendingBatchSize) break;
+        }
+        if (retried > stillPending) {
+            log.info("[에스크로상태] 보관 이벤트 반영 | resolved={} | applied={} | stillPending={}",
+                    retried - stillPending, applied, stillPending);
+        }
+        return new RetryResult(retried, applied, stillPending, expired);
+    }
+
+    /**
+     * 지금까지 받은 이벤트의 최대 ledger index. Core 가 (재)시작 시 이 다음 ledger 부터 account_tx 로 보충 조회.
+     */
+    @Transactional(readOnly = true)
+    public Long cursor() {
+        Long applied = escrowStatusRepository.findMaxLedgerIndex();
+        Long pending = pendingEventRepository.findMaxLedgerIndex();
+        if (applied == null) return pending;
+        if (pending == null) return applied;
+        return Math.max(applied, pending);
+    }
+
+    private record Applied(int applied, int ignored, List<EscrowLedgerEvent> unmatched) {
+    }
+
+    /** 소유자 주소별로 참여자를 한 번에 조회하고 상태 행도 한 번에 읽어 ledger index 순서로 적용 */
+    private Applied applyAll(List<EscrowLedgerEvent> events) {
+        // 1) 이벤트 → 참여자 매칭 (ownerAddress + offerSequence)
+        Map<String, Set<Long>> sequencesByOwner = events.stream()
+                .filter(EscrowStatusService::isValid)
+                .collect(Collectors.groupingBy(EscrowLedgerEvent::ownerAddress,
+                        Collectors.mapping(EscrowLedgerEvent::offerSequence, Collectors.toSet())));
+        Map<String, Participant> participants = new HashMap<>();
+        sequencesByOwner.forEach((owner, sequences) ->
+                participantRepository.findByEscrowOwnerAddressAndOfferSequenceIn(owner, sequences)
+                        .forEach(p -> participants.put(key(p.getEscrowOwnerAddress(), p.getOfferSequence()), p)));
+
+        // 2) 기존 상태 행 일괄 조회
+        List<Long> participantIds = participants.values().stream().map(Participant::getId).toList();
+        Map<Long, EscrowStatus> statuses = escrowStatusRepository.findAllById(participantIds).stream()
+                .collect(Collectors.toMap(EscrowStatus::getParticipantId, Function.identity()));
+
+        // 3) ledger index 순서로 적용
+        Map<Long, EscrowStatus> changed = new LinkedHashMap<>();
+        List<EscrowLedgerEvent> unmatched = new ArrayList<>();
+        int applied = 0;
+        int ignored = 0;
+        List<EscrowLedgerEvent> ordered = new ArrayList<>(events);
+        ordered.sort((a, b) -> Long.compare(
+                a != null && a.ledgerIndex() != null ? a.ledgerIndex() : 0L,
+                b != null && b.ledgerIndex() != null ? b.ledgerIndex() : 0L));
+        for (EscrowLedgerEvent event : ordered) {
+            if (!isValid(event)) {
+                ignored++;
+                continue;
+            }
+            Participant participant = participants.get(key(event.ownerAddress(), event.offerSequence()));
+            if (participant == null) {
+                // 참여 트랜잭션 커밋 전에 이벤트가 먼저 온 경우 등 → 호출 측에서 보관 후 재시도
+                unmatched.add(event);
+                if (log.isDebugEnabled()) {
+                    log.debug("[에스크로상태] 참여자 없는 이벤트 | type={} | owner={} | offerSequence={} | txHash={}",
+                            event.type(), MaskedAddress.of(event.ownerAddress()), event.offerSequence(), event.txHash());
+                }
+                continue;
+            }
+            EscrowStatus current = changed.getOrDefault(participant.getId(), statuses.get(participant.getId()));
+            if (!supersedes(event, current)) {
+                ignored++;
+                continue;
+            }
+            changed.put(participant.getId(), apply(event, participant, current));
+            applied++;
+        }
+        escrowStatusRepository.saveAll(changed.values());
+        return new Applied(applied, ignored, unmatched);
+    }
+
+    /**
+     * 연구 참여자 전체의 에스크로 상태. 이벤트가 아직 없는 참여자는 참여자 행 기준으로 추정 (source=PARTICIPANT).
+     */
+    @Transactional(readOnly = true)
+    public List<EscrowStatusView> listByProject(Long projectId) {
+        if (!projectRepository.existsById(projectId)) {
+            throw new IllegalArgumentException("Project not found: " + projectId);
+        }
+        Map<Long, EscrowStatus> statuses = escrowStatusRepository.findByProjectId(projectId).stream()
+                .collect(Collectors.toMap(EscrowStatus::getParticipantId, Function.identity()));
+        Instant now = Instant.now();
+        return participantRepository.findByProjectId(projectId).stream()
+                .map(p -> toView(p, statuses.get(p.getId()), now))
+                .toList();
+    }
+
+    private static EscrowStatusView toView(Participant p, EscrowStatus s, Instant now) {
+        if (s == null) {
+            EscrowStatus.State derived = p.isActive() ? EscrowStatus.State.ACTIVE : EscrowStatus.State.CANCELLED;
+            return new EscrowStatusView(p.getId(), p.getProjectId(), p.getParticipantAddress(), derived,
+                    EscrowStatusView.Source.PARTICIPANT, p.getEscrowTxHash(), null, null, null, null);
+        }
+        EscrowStatus.State state = s.getState();
+        if (state == EscrowStatus.State.ACTIVE && s.getCancelAfter() != null && s.getCancelAfter().isBefore(now)) {
+            state = EscrowStatus.State.EXPIRED;
+        }
+        return new EscrowStatusView(p.getId(), p.getProjectId(), p.getParticipantAddress(), state,
+                EscrowStatusView.Source.LEDGER, s.getLastTxHash(), s.getLastLedgerIndex(),
+                s.getFinishAfter(), s.getCancelAfter(), s.getUpdatedAt());
+    }
+
+    private static boolean supersedes(EscrowLedgerEvent event, EscrowStatus current) {
+        if (current == null || current.getLastLedgerIndex() == null) return true;
+        int cmp = Long.compare(event.ledgerIndex(), current.getLastLedgerIndex());
+        if (cmp != 0) return cmp > 0;
+        // 같은 ledger 안의 생성/종료: 종료 상태가 이김. 같은 트랜잭션 재전송은 무시
+        return current.getState() == EscrowStatus.State.ACTIVE
+                && event.type() != EscrowLedgerEvent.Type.CREATED;
+    }
+
+    private static EscrowStatus apply(EscrowLedgerEvent event, Participant participant, EscrowStatus current) {
+        EscrowStatus s = current != null ? current : EscrowStatus.builder()
+                .participantId(participant.getId())
+                .projectId(participant.getProjectId())
+                .isNew(true)
+                .build();
+        s.setState(switch (event.type()) {
+            case CREATED -> EscrowStatus.State.ACTIVE;
+            case FINISHED -> EscrowStatus.State.FINISHED;
+            case CANCELLED -> EscrowStatus.State.CANCELLED;
+        });
+        s.setLastTxHash(event.txHash());
+        s.setLastLedgerIndex(event.ledgerIndex());
+        if (event.finishAfter() != null) s.setFinishAfter(fromRippleTime(event.finishAfter()));
+        if (event.cancelAfter() != null) s.setCancelAfter(fromRippleTime(event.cancelAfter()));
+        s.setUpdatedAt(Instant.now());
+        return s;
+    }
+
+    private static boolean isValid(EscrowLedgerEvent e) {
+        return e != null && e.type() != null && e.ownerAddress() != null
+                && e.offerSequence() != null && e.ledgerIndex() != null;
+    }
+
+    private static String key(String owner, Long offerSequence) {
+        return owner + "#" + offerSequence;
+    }
+
+    private static Instant fromRippleTime(long rippleSeconds) {
+        return Instant.ofEpochSecond(rippleSeconds + RIPPLE_EPOCH_OFFSET);
+    }
+}
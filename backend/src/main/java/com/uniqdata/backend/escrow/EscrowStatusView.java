@@ -0,0 +1,23 @@
+package com.uniqdata.backend.escrow;
+
+import java.time.Instant;
+
+/**
+ * 참여자 1명의 에스크로 상태 조회 결과.
+ * source=LEDGER 면 원장 이벤트 기준, PARTICIPANT 면 이벤트 수신 전이라 참여자 행(active) 기준 추정.
+ */
+public record EscrowStatusView(
+        Long participantId,
+        Long projectId,
+        String participantAddress,
+        EscrowStatus.State state,
+        Source source,
+        String lastTxHash,
+        Long lastLedgerIndex,
+        Instant finishAfter,
+        Instant cancelAfter,
+        Instant updatedAt
+) {
+
+    public enum Source { LEDGER, PARTICIPANT }
+}
@@ -0,0 +1,72 @@
+package com.uniqdata.backend.escrow;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * 참여자 행이 아직 없어 반영하지 못한 원장 이벤트.
+ * Core 의 createEscrow 는 트랜잭션 validated 후 응답하므로 참여 커밋보다 이벤트가 먼저 올 수 있음 → 보관 후 재시도.
+ */
+@Entity
+@Table(name = "pending_escrow_events", indexes = {
+        @Index(name = "idx_pending_escrow_events_received", columnList = "received_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PendingEscrowEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pending_escrow_events_seq")
+    @SequenceGenerator(name = "pending_escrow_events_seq", sequenceName = "pending_escrow_events_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private EscrowLedgerEvent.Type type;
+
+    private String txHash;
+
+    @Column(nullable = false)
+    private String ownerAddress;
+
+    @Column(nullable = false)
+    private Long offerSequence;
+
+    @Column(nullable = false)
+    private Long ledgerIndex;
+
+    private String destination;
+    private Long destinationTag;
+    private String amountDrops;
+    private Long finishAfter;
+    private Long cancelAfter;
+
+    @Column(name = "received_at", nullable = false)
+    private Instant receivedAt;
+
+    static PendingEscrowEvent of(EscrowLedgerEvent e, Instant receivedAt) {
+        return PendingEscrowEvent.builder()
+                .type(e.type())
+                .txHash(e.txHash())
+                .ownerAddress(e.ownerAddress())
+                .offerSequence(e.offerSequence())
+                .ledgerIndex(e.ledgerIndex())
+                .destination(e.destination())
+                .destinationTag(e.destinationTag())
+                .amountDrops(e.amountDrops())
+                .finishAfter(e.finishAfter())
+                .cancelAfter(e.cancelAfter())
+                .receivedAt(receivedAt)
+                .build();
+    }
+
+    EscrowLedgerEvent toEvent() {
+        return new EscrowLedgerEvent(type, txHash, ownerAddress, offerSequence, ledgerIndex,
+                destination, destinationTag, amountDrops, finishAfter, cancelAfter);
+    }
+}
@@ -0,0 +1,22 @@
+package com.uniqdata.backend.escrow;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface PendingEscrowEventRepository extends JpaRepository<PendingEscrowEvent, Long> {
+
+    List<PendingEscrowEvent> findByIdGreaterThanOrderByIdAsc(Long afterId, Pageable pageable);
+
+    @Modifying
+    @Query("delete from PendingEscrowEvent e where e.receivedAt < :cutoff")
+    int deleteReceivedBefore(@Param("cutoff") Instant cutoff);
+
+    @Query("select max(e.ledgerIndex) from PendingEscrowEvent e")
+    Long findMaxLedgerIndex();
+}
@@ -0,0 +1,355 @@
+package com.uniqdata.backend.journal;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * 에스크로 Core 호출 선행 기록(write-ahead) 저널.
+ * Core 호출 전에 INTENT, 호출 후 OUTCOME, DB 커밋 후 CHECKPOINT 를 남겨서
+ * createEscrow 성공 직후 프로세스가 죽어도 재기동 시 EscrowJournalRecovery 가 재반영/대조할 수 있게 함.
+ * <p>
+ * 세그먼트 파일을 mmap 해서 쓰므로 append 는 메모리 복사 수준(수 µs)이고 프로세스가 죽어도 페이지 캐시에 남음.
+ * OS 장애 대비 fsync(force)는 flusher 스레드가 flush-interval 마다 모아서 수행 (group commit).
+ * await-fsync=true 면 append 가 해당 group commit 까지 대기.
+ * CHECKPOINT 되지 않은 항목이 없는 오래된 세그먼트는 삭제(compaction).
+ */
+@Slf4j
+@Component
+public class EscrowJournal {
+
+    private static final String SEGMENT_PREFIX = "escrow-journal-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final int RECORD_HEADER = 8;
+
+    @Value("${escrow.journal.enabled:true}")
+    private boolean enabled;
+
+    @Value("${escrow.journal.dir:./data/escrow-journal}")
+    private Path dir;
+
+    @Value("${escrow.journal.segment-size:4194304}")
+    private int segmentSize;
+
+    @Value("${escrow.journal.flush-interval:PT0.005S}")
+    private Duration flushInterval;
+
+    @Value("${escrow.journal.await-fsync:false}")
+    private boolean awaitFsync;
+
+    private final Map<Long, PendingEscrowOperation> pending = new ConcurrentHashMap<>();
+
+    private Segment active;
+    private long nextId = 1;
+    private long writtenCount;
+    private long flushedCount;
+    private volatile boolean closed;
+    private Thread flusher;
+    private Instant openedAt;
+
+    private record Segment(long seq, FileChannel channel, MappedByteBuffer buffer) {}
+
+    @PostConstruct
+    void open() throws IOException {
+        openedAt = Instant.now();
+        if (!enabled) {
+            log.info("[저널] 비활성");
+            return;
+        }
+        Files.createDirectories(dir);
+        long lastSeq = 0;
+        for (long seq : listSegments()) {
+            replaySegment(seq);
+            lastSeq = seq;
+        }
+        active = openSegment(lastSeq + 1);
+        if (nextId > 1) {
+            // 마지막 id 를 새 세그먼트에 남김. 모든 항목이 CHECKPOINT 되어 이전 세그먼트가 정리돼도 재기동 후 id 가 이어짐
+            append(new EscrowJournalEntry(EscrowJournalEntry.Type.ID_MARK, nextId - 1, System.currentTimeMillis(),
+                    EscrowJournalEntry.Operation.CREATE, EscrowJournalEntry.Status.NONE,
+                    null, null, null, null, null, null));
+        }
+        compact();
+        flusher = new Thread(this::flushLoop, "escrow-journal-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+        log.info("[저널] 열림 | dir={} | segment={} | pending={}", dir, active.seq(), pending.size());
+    }
+
+    @PreDestroy
+    void close() {
+        if (!enabled || active == null) return;
+        synchronized (this) {
+            closed = true;
+            notifyAll();
+        }
+        try {
+            flusher.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (this) {
+            active.buffer().force();
+            closeQuietly(active.channel());
+        }
+    }
+
+    /** 이번 프로세스에서 저널을 연 시각. 이전 프로세스가 남긴 항목 구분용 */
+    public Instant openedAt() {
+        return openedAt;
+    }
+
+    // --- 기록 API (비활성이면 id 0, 나머지는 no-op) ---
+
+    public long logCreateIntent(Long projectId, String participantAddress, long amountXrp) {
+        return logIntent(EscrowJournalEntry.Operation.CREATE, projectId, participantAddress, amountXrp, null, null, null);
+    }
+
+    public long logCancelIntent(Long projectId, String participantAddress, String ownerAddress,
+                                Long offerSequence, String escrowTxHash) {
+        return logIntent(EscrowJournalEntry.Operation.CANCEL, projectId, participantAddress, null,
+                ownerAddress, offerSequence, escrowTxHash);
+    }
+
+    public void logSucceeded(long id, String ownerAddress, Long offerSequence, String txHash) {
+        logOutcome(id, EscrowJournalEntry.Status.SUCCEEDED, ownerAddress, offerSequence, txHash);
+    }
+
+    /** Core 호출 실패. 실제로 원장에 반영됐을 수도 있으므로(타임아웃 등) CHECKPOINT 하지 않고 복구 대상으로 남김 */
+    public void logFailed(long id) {
+        logOutcome(id, EscrowJournalEntry.Status.FAILED, null, null, null);
+    }
+
+    public void checkpoint(long id) {
+        if (!enabled || id == 0) return;
+        PendingEscrowOperation op = pending.get(id);
+        if (op == null) return;
+        append(new EscrowJournalEntry(EscrowJournalEntry.Type.CHECKPOINT, id, System.currentTimeMillis(),
+                op.intent().operation(), EscrowJournalEntry.Status.NONE, null, null, null, null, null, null));
+        pending.remove(id);
+    }
+
+    /** 트랜잭션 커밋 후 CHECKPOINT. 롤백되면 복구 대상으로 남음 */
+    public void checkpointAfterCommit(long id) {
+        if (!enabled || id == 0) return;
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            checkpoint(id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                checkpoint(id);
+            }
+        });
+    }
+
+    /** cutoff 이전에 INTENT 가 기록된 미완료 항목 */
+    public List<PendingEscrowOperation> pendingBefore(Instant cutoff) {
+        long cutoffMillis = cutoff.toEpochMilli();
+        return pending.values().stream()
+                .filter(op -> op.intent().timestamp() < cutoffMillis)
+                .toList();
+    }
+
+    /** 미완료 항목이 없는 오래된 세그먼트 삭제 */
+    public synchronized void compact() {
+        if (!enabled || active == null) return;
+        long keepFrom = pending.values().stream()
+                .mapToLong(PendingEscrowOperation::segment)
+                .min()
+                .orElse(active.seq());
+        try {
+            for (long seq : listSegments()) {
+                if (seq < keepFrom && seq < active.seq()) {
+                    Files.deleteIfExists(segmentPath(seq));
+                    log.info("[저널] 세그먼트 정리 | segment={}", seq);
+                }
+            }
+        } catch (IOException e) {
+            log.warn("[저널] 세그먼트 정리 실패 | error={}", e.getMessage());
+        }
+    }
+
+    // --- 내부 ---
+
+    private long logIntent(EscrowJournalEntry.Operation operation, Long projectId, String participantAddress,
+                           Long amountXrp, String ownerAddress, Long offerSequence, String txHash) {
+        if (!enabled) return 0;
+        long id;
+        long segment;
+        EscrowJournalEntry intent;
+        synchronized (this) {
+            id = nextId++;
+            intent = new EscrowJournalEntry(EscrowJournalEntry.Type.INTENT, id, System.currentTimeMillis(), operation,
+                    EscrowJournalEntry.Status.NONE, projectId, participantAddress, amountXrp, ownerAddress, offerSequence, txHash);
+            long written = append(intent);
+            segment = active.seq();
+            pending.put(id, new PendingEscrowOperation(intent, null, segment));
+            if (awaitFsync) awaitFlushed(written);
+        }
+        return id;
+    }
+
+    private void logOutcome(long id, EscrowJournalEntry.Status status, String ownerAddress, Long offerSequence, String txHash) {
+        if (!enabled || id == 0) return;
+        PendingEscrowOperation op = pending.get(id);
+        if (op == null) return;
+        EscrowJournalEntry outcome = new EscrowJournalEntry(EscrowJournalEntry.Type.OUTCOME, id, System.currentTimeMillis(),
+                op.intent().operation(), status, op.intent().projectId(), op.intent().participantAddress(), null,
+                ownerAddress, offerSequence, txHash);
+        synchronized (this) {
+            long written = append(outcome);
+            pending.computeIfPresent(id, (k, v) -> v.withOutcome(outcome));
+            if (awaitFsync) awaitFlushed(written);
+        }
+    }
+
+    private synchronized long append(EscrowJournalEntry entry) {
+        byte[] payload = EscrowJournalCodec.encode(entry);
+        if (active.buffer().remaining() < RECORD_HEADER + payload.length) {
+            roll();
+        }
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        active.buffer().putInt(payload.length).putInt((int) crc.getValue()).put(payload);
+        return ++writtenCount;
+    }
+
+    private void roll() {
+        Segment old = active;
+        old.buffer().force();
+        flushedCount = writtenCount;
+        closeQuietly(old.channel());
+        try {
+            active = openSegment(old.seq() + 1);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Escrow journal segment roll failed", e);
+        }
+        compact();
+    }
+
+    private void awaitFlushed(long written) {
+        notifyAll();
+        while (flushedCount < written && !closed) {
+            try {
+                wait(flushInterval.toMillis() + 1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /** group commit: flush-interval 동안 쌓인 기록을 한 번의 force 로 디스크에 반영 */
+    private void flushLoop() {
+        long intervalMillis = Math.max(1, flushInterval.toMillis());
+        while (!closed) {
+            Segment segment;
+            long target;
+            synchronized (this) {
+                if (writtenCount == flushedCount) {
+                    try {
+                        wait(intervalMillis);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+                if (writtenCount == flushedCount) continue;
+                segment = active;
+                target = writtenCount;
+            }
+            segment.buffer().force();
+            synchronized (this) {
+                if (target > flushedCount) flushedCount = target;
+                notifyAll();
+            }
+        }
+    }
+
+    private Segment openSegment(long seq) throws IOException {
+        FileChannel channel = FileChannel.open(segmentPath(seq),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        return new Segment(seq, channel, buffer);
+    }
+
+    /** 세그먼트를 처음부터 읽어 미완료 항목 복원. 길이 0 또는 CRC 불일치(쓰다 만 레코드)에서 멈춤 */
+    private void replaySegment(long seq) throws IOException {
+        try (FileChannel channel = FileChannel.open(segmentPath(seq), StandardOpenOption.READ)) {
+            ByteBuffer buf = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            int records = 0;
+            while (buf.remaining() >= RECORD_HEADER) {
+                int length = buf.getInt();
+                int checksum = buf.getInt();
+                if (length <= 0 || length > buf.remaining()) break;
+                ByteBuffer payload = buf.slice(buf.position(), length);
+                CRC32 crc = new CRC32();
+                crc.update(payload.duplicate());
+                if ((int) crc.getValue() != checksum) {
+                    log.warn("[저널] 손상된 레코드에서 중단 | segment={} | offset={}", seq, buf.position() - RECORD_HEADER);
+                    break;
+                }
+                apply(EscrowJournalCodec.decode(payload), seq);
+                buf.position(buf.position() + length);
+                records++;
+            }
+            log.debug("[저널] 세그먼트 재생 | segment={} | records={}", seq, records);
+        }
+    }
+
+    private void apply(EscrowJournalEntry entry, long seq) {
+        nextId = Math.max(nextId, entry.id() + 1);
+        switch (entry.type()) {
+            case INTENT -> pending.put(entry.id(), new PendingEscrowOperation(entry, null, seq));
+            case OUTCOME -> pending.computeIfPresent(entry.id(), (k, v) -> v.withOutcome(entry));
+            case CHECKPOINT -> pending.remove(entry.id());
+            case ID_MARK -> {
+            }
+        }
+    }
+
+    private List<Long> listSegments() throws IOException {
+        List<Long> seqs = new ArrayList<>();
+        try (Stream<Path> files = Files.list(dir)) {
+            files.map(p -> p.getFileName().toString())
+                    .filter(n -> n.startsWith(SEGMENT_PREFIX) && n.endsWith(SEGMENT_SUFFIX))
+                    .forEach(n -> seqs.add(Long.parseLong(
+                            n.substring(SEGMENT_PREFIX.length(), n.length() - SEGMENT_SUFFIX.length()))));
+        }
+        seqs.sort(null);
+        return seqs;
+    }
+
+    private Path segmentPath(long seq) {
+        return dir.resolve(String.format("%s%020d%s", SEGMENT_PREFIX, seq, SEGMENT_SUFFIX));
+    }
+
+    private static void closeQuietly(FileChannel channel) {
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.uniqdata.backend.journal;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 저널 레코드 바이너리 인코딩. 레코드 = [payload 길이 int][CRC32 int][payload].
+ * null 숫자는 Long.MIN_VALUE, null 문자열은 길이 -1 로 기록.
+ */
+final class EscrowJournalCodec {
+
+    private static final long NULL_LONG = Long.MIN_VALUE;
+
+    private EscrowJournalCodec() {
+    }
+
+    static byte[] encode(EscrowJournalEntry e) {
+        byte[] address = bytes(e.participantAddress());
+        byte[] owner = bytes(e.ownerAddress());
+        byte[] txHash = bytes(e.txHash());
+        int size = 3 + 8 * 5 + 3 * 2 + length(address) + length(owner) + length(txHash);
+        ByteBuffer buf = ByteBuffer.allocate(size);
+        buf.put((byte) e.type().ordinal())
+                .put((byte) e.operation().ordinal())
+                .put((byte) e.status().ordinal())
+                .putLong(e.id())
+                .putLong(e.timestamp())
+                .putLong(orNull(e.projectId()))
+                .putLong(orNull(e.amountXrp()))
+                .putLong(orNull(e.offerSequence()));
+        putString(buf, address);
+        putString(buf, owner);
+        putString(buf, txHash);
+        return buf.array();
+    }
+
+    static EscrowJournalEntry decode(ByteBuffer buf) {
+        var type = EscrowJournalEntry.Type.values()[buf.get()];
+        var operation = EscrowJournalEntry.Operation.values()[buf.get()];
+        var status = EscrowJournalEntry.Status.values()[buf.get()];
+        long id = buf.getLong();
+        long timestamp = buf.getLong();
+        Long projectId = toNull(buf.getLong());
+        Long amountXrp = toNull(buf.getLong());
+        Long offerSequence = toNull(buf.getLong());
+        String address = getString(buf);
+        String owner = getString(buf);
+        String txHash = getString(buf);
+        return new EscrowJournalEntry(type, id, timestamp, operation, status,
+                projectId, address, amountXrp, owner, offerSequence, txHash);
+    }
+
+    private static byte[] bytes(String s) {
+        return s != null ? s.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    private static int length(byte[] b) {
+        return b != null ? b.length : 0;
+    }
+
+    private static long orNull(Long v) {
+        return v != null ? v : NULL_LONG;
+    }
+
+    private static Long toNull(long v) {
+        return v == NULL_LONG ? null : v;
+    }
+
+    private static void putString(ByteBuffer buf, byte[] b) {
+        if (b == null) {
+            buf.putShort((short) -1);
+            return;
+        }
+        buf.putShort((short) b.length).put(b);
+    }
+
+    private static String getString(ByteBuffer buf) {
+        short len = buf.getShort();
+        if (len < 0) return null;
+        byte[] b = new byte[len];
+        buf.get(b);
+        return new String(b, StandardCharsets.UTF_8);
+    }
+}
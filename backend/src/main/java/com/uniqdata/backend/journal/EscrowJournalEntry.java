@@ -0,0 +1,29 @@
+package com.uniqdata.backend.journal;
+
+/**
+ * 에스크로 저널 레코드 1건.
+ * INTENT — Core 호출 직전 (무엇을 하려는지), OUTCOME — Core 호출 결과, CHECKPOINT — DB 반영 완료,
+ * ID_MARK — 기동 시 새 세그먼트에 남기는 마지막 id (항목 상태는 바꾸지 않음).
+ *
+ * @param txHash CREATE 결과: 생성 txHash / CANCEL 의도: 취소 대상 에스크로의 생성 txHash / CANCEL 결과: 취소 txHash
+ */
+public record EscrowJournalEntry(
+        Type type,
+        long id,
+        long timestamp,
+        Operation operation,
+        Status status,
+        Long projectId,
+        String participantAddress,
+        Long amountXrp,
+        String ownerAddress,
+        Long offerSequence,
+        String txHash
+) {
+
+    public enum Type { INTENT, OUTCOME, CHECKPOINT, ID_MARK }
+
+    public enum Operation { CREATE, CANCEL }
+
+    public enum Status { NONE, SUCCEEDED, FAILED }
+}
@@ -0,0 +1,311 @@
+package com.uniqdata.backend.journal;
+
+import com.uniqdata.backend.core.CoreClient;
+import com.uniqdata.backend.core.CoreClientException;
+import com.uniqdata.backend.logging.MaskedAddress;
+import com.uniqdata.backend.participant.Participant;
+import com.uniqdata.backend.participant.ParticipantProjectsCache;
+import com.uniqdata.backend.participant.ParticipantRepository;
+import com.uniqdata.backend.project.ProjectRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 에스크로 저널의 미완료 항목 복구.
+ * 기동 시 이전 프로세스가 남긴 항목을, 이후 recover-interval 마다 recover-grace 보다 오래된 항목을 처리.
+ * - OUTCOME 성공이 있는 항목: DB 에 재반영 (참여자 생성 / 비활성화)
+ * - OUTCOME 이 없거나 실패인 항목: Core 에스크로 상태 일괄 조회로 원장과 대조해 실제 반영 여부 판단.
+ *   원장에 에스크로가 있으면 PreviousTxnID(= EscrowCreate txHash)로 OfferSequence 를 조회해 참여자 복원
+ * - 같은 (연구, 주소) 참여자가 이미 다른 에스크로로 존재: 이 항목의 에스크로는 중복이므로 Core 로 취소
+ * 처리한 항목은 CHECKPOINT. Core 조회/취소가 불가하거나 사람이 판단해야 하는 항목은 CHECKPOINT 하지 않고 다음 주기로 미룸.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EscrowJournalRecovery implements ApplicationRunner {
+
+    private final EscrowJournal journal;
+    private final ParticipantRepository participantRepository;
+    private final ProjectRepository projectRepository;
+    private final ParticipantProjectsCache projectsCache;
+    private final CoreClient coreClient;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${escrow.journal.recover-grace:PT2M}")
+    private Duration grace;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        recover(journal.openedAt());
+    }
+
+    @Scheduled(fixedDelayString = "${escrow.journal.recover-interval:PT5M}",
+            initialDelayString = "${escrow.journal.recover-interval:PT5M}")
+    public void recoverStale() {
+        recover(Instant.now().minus(grace));
+    }
+
+    synchronized void recover(Instant cutoff) {
+        List<PendingEscrowOperation> ops = journal.pendingBefore(cutoff);
+        if (ops.isEmpty()) return;
+        log.info("[저널복구] 시작 | pending={}", ops.size());
+
+        LazyLedger ledger = new LazyLedger();
+        int recovered = 0;
+        for (PendingEscrowOperation op : ops) {
+            try {
+                LazyLedger view = ledger;
+                Boolean done = transactionTemplate.execute(status -> switch (op.intent().operation()) {
+                    case CREATE -> recoverCreate(op, view);
+                    case CANCEL -> recoverCancel(op, view);
+                });
+                if (Boolean.TRUE.equals(done)) {
+                    journal.checkpoint(op.intent().id());
+                    projectsCache.invalidate(op.intent().participantAddress());
+                    recovered++;
+                }
+            } catch (RuntimeException e) {
+                log.error("[저널복구] 항목 처리 실패 | journalId={} | error={}", op.intent().id(), e.getMessage(), e);
+            }
+        }
+        journal.compact();
+        log.info("[저널복구] 종료 | recovered={} | remaining={}", recovered, ops.size() - recovered);
+    }
+
+    private boolean recoverCreate(PendingEscrowOperation op, LazyLedger ledger) {
+        EscrowJournalEntry intent = op.intent();
+        Optional<Participant> existing =
+                participantRepository.findByProjectIdAndParticipantAddress(intent.projectId(), intent.participantAddress());
+        if (existing.isPresent()) {
+            return resolveAgainstExisting(op, existing.get(), ledger);
+        }
+        if (op.succeeded()) {
+            if (projectRepository.findById(intent.projectId()).isEmpty()) {
+                // CHECKPOINT 하면 XRP 가 묶인 에스크로가 저널에서 사라지므로 원장 복원 경로와 같이 보류
+                log.error("[저널복구] 에스크로는 생성됐으나 프로젝트 없음, 수동 확인 전까지 보류 | journalId={} | projectId={} | txHash={}",
+                        intent.id(), intent.projectId(), op.outcome().txHash());
+                return false;
+            }
+            EscrowJournalEntry outcome = op.outcome();
+            saveParticipant(intent, outcome.ownerAddress(), outcome.offerSequence(), outcome.txHash());
+            if (log.isInfoEnabled()) {
+                log.info("[저널복구] 참여자 재반영 | journalId={} | projectId={} | participantAddress={} | txHash={}",
+                        intent.id(), intent.projectId(), MaskedAddress.of(intent.participantAddress()), outcome.txHash());
+            }
+            return true;
+        }
+        LedgerView view = ledger.get();
+        if (view == null) {
+            return false;
+        }
+        List<String> candidates = view.byDestination(intent.participantAddress(), intent.projectId());
+        if (candidates.isEmpty()) {
+            // 원장 전체(고정된 ledgerIndex 기준) 조회에서 없으면 FAILED/결과 미기록 항목 종료 — 다음 주기에 다시 조회하지 않음
+            log.info("[저널복구] createEscrow 미반영 확인, 종료 | journalId={} | projectId={} | outcome={}",
+                    intent.id(), intent.projectId(), op.outcome() != null ? op.outcome().status() : "NONE");
+            return true;
+        }
+        if (candidates.size() > 1) {
+            log.error("[저널복구] 결과 미기록 에스크로가 여러 건, 수동 확인 전까지 보류 | journalId={} | projectId={} | participantAddress={} | txHashes={}",
+                    intent.id(), intent.projectId(), MaskedAddress.of(intent.participantAddress()), candidates);
+            return false;
+        }
+        // account_objects 에는 Sequence 가 없으므로 PreviousTxnID(= EscrowCreate txHash)로 OfferSequence 조회
+        String txHash = candidates.get(0);
+        CoreClient.CoreEscrowCreateTx created = lookupCreateTx(intent, txHash);
+        if (created == null) {
+            return false;
+        }
+        if (projectRepository.findById(intent.projectId()).isEmpty()) {
+            log.error("[저널복구] 원장 에스크로는 있으나 프로젝트 없음, 수동 확인 전까지 보류 | journalId={} | projectId={} | txHash={}",
+                    intent.id(), intent.projectId(), txHash);
+            return false;
+        }
+        saveParticipant(intent, created.ownerAddress(), created.offerSequence(), txHash);
+        log.warn("[저널복구] 결과 미기록 에스크로로 참여자 복원 | journalId={} | projectId={} | participantAddress={} | offerSequence={} | txHash={}",
+                intent.id(), intent.projectId(), MaskedAddress.of(intent.participantAddress()), created.offerSequence(), txHash);
+        return true;
+    }
+
+    /**
+     * 같은 (연구, 주소) 참여자가 이미 있는 CREATE 항목. 동시 참여 신청 중 하나가 유니크 제약으로 롤백된 경우 등
+     * 이 항목이 만든 에스크로가 참여자와 다르면 XRP 가 묶인 채 남으므로 취소.
+     */
+    private boolean resolveAgainstExisting(PendingEscrowOperation op, Participant existing, LazyLedger ledger) {
+        EscrowJournalEntry intent = op.intent();
+        if (op.succeeded()) {
+            EscrowJournalEntry outcome = op.outcome();
+            if (outcome.txHash() != null && outcome.txHash().equals(existing.getEscrowTxHash())) {
+                return true;
+            }
+            return cancelDuplicate(intent, outcome.ownerAddress(), outcome.offerSequence(), outcome.txHash(), existing, ledger);
+        }
+        LedgerView view = ledger.get();
+        if (view == null) {
+            return false;
+        }
+        boolean done = true;
+        for (String txHash : view.byDestination(intent.participantAddress(), intent.projectId())) {
+            if (txHash.equals(existing.getEscrowTxHash())) continue;
+            CoreClient.CoreEscrowCreateTx created = lookupCreateTx(intent, txHash);
+            done &= created != null
+                    && cancelDuplicate(intent, created.ownerAddress(), created.offerSequence(), txHash, existing, ledger);
+        }
+        return done;
+    }
+
+    private boolean cancelDuplicate(EscrowJournalEntry intent, String ownerAddress, Long offerSequence, String txHash,
+                                    Participant existing, LazyLedger ledger) {
+        if (ownerAddress == null || offerSequence == null) {
+            log.error("[저널복구] 중복 에스크로의 소유자/OfferSequence 없음, 수동 확인 전까지 보류 | journalId={} | duplicateTxHash={}",
+                    intent.id(), txHash);
+            return false;
+        }
+        LedgerView view = ledger.get();
+        if (view == null) {
+            return false;
+        }
+        if (!view.contains(txHash)) {
+            // 이미 취소(이전 복구 시도)되었거나 완료된 에스크로
+            log.info("[저널복구] 중복 에스크로가 원장에 없음, 처리 완료 | journalId={} | txHash={}", intent.id(), txHash);
+            return true;
+        }
+        log.warn("[저널복구] 기존 참여자와 다른 중복 에스크로, 취소 | journalId={} | participantId={} | existingTxHash={} | duplicateTxHash={} | offerSequence={}",
+                intent.id(), existing.getId(), existing.getEscrowTxHash(), txHash, offerSequence);
+        try {
+            CoreClient.CoreEscrowCancelResponse cancelled = coreClient.cancelEscrow(ownerAddress, offerSequence);
+            log.info("[저널복구] 중복 에스크로 취소 완료 | journalId={} | cancelTxHash={}", intent.id(), cancelled.txHash());
+            return true;
+        } catch (CoreClientException e) {
+            // CancelAfter 전에는 EscrowCancel 불가 → CHECKPOINT 하지 않고 다음 주기 재시도
+            log.error("[저널복구] 중복 에스크로 취소 실패, 다음 주기 재시도 | journalId={} | duplicateTxHash={} | error={}",
+                    intent.id(), txHash, e.getMessage());
+            return false;
+        }
+    }
+
+    private CoreClient.CoreEscrowCreateTx lookupCreateTx(EscrowJournalEntry intent, String txHash) {
+        try {
+            CoreClient.CoreEscrowCreateTx created = coreClient.getEscrowCreateTx(txHash);
+            if (!created.validated()) {
+                log.warn("[저널복구] EscrowCreate 미확정, 다음 주기 재시도 | journalId={} | txHash={}", intent.id(), txHash);
+                return null;
+            }
+            return created;
+        } catch (CoreClientException e) {
+            log.warn("[저널복구] EscrowCreate 조회 불가, 다음 주기 재시도 | journalId={} | txHash={} | error={}",
+                    intent.id(), txHash, e.getMessage());
+            return null;
+        }
+    }
+
+    private void saveParticipant(EscrowJournalEntry intent, String ownerAddress, Long offerSequence, String txHash) {
+        participantRepository.save(Participant.builder()
+                .projectId(intent.projectId())
+                .participantAddress(intent.participantAddress())
+                .escrowOwnerAddress(ownerAddress)
+                .offerSequence(offerSequence)
+                .escrowTxHash(txHash)
+                .active(true)
+                .enrolledAt(Instant.ofEpochMilli(intent.timestamp()))
+                .build());
+    }
+
+    private boolean recoverCancel(PendingEscrowOperation op, LazyLedger lazyLedger) {
+        EscrowJournalEntry intent = op.intent();
+        Optional<Participant> participant =
+                participantRepository.findByProjectIdAndParticipantAddress(intent.projectId(), intent.participantAddress());
+        if (participant.isEmpty() || !participant.get().isActive()) {
+            return true;
+        }
+        boolean cancelled;
+        LedgerView ledger;
+        if (op.succeeded()) {
+            cancelled = true;
+        } else if ((ledger = lazyLedger.get()) == null) {
+            return false;
+        } else {
+            cancelled = intent.txHash() != null && !ledger.contains(intent.txHash());
+        }
+        if (cancelled) {
+            Participant p = participant.get();
+            p.setActive(false);
+            p.setWithdrawnAt(Instant.ofEpochMilli(op.outcome() != null ? op.outcome().timestamp() : intent.timestamp()));
+            log.info("[저널복구] 철회 재반영 | journalId={} | participantId={}", intent.id(), p.getId());
+        }
+        return true;
+    }
+
+    private LedgerView loadLedger() {
+        LedgerView view = new LedgerView();
+        String marker = null;
+        try {
+            Long ledgerIndex = null;
+            do {
+                // 첫 페이지 ledgerIndex 로 이후 페이지 고정 (페이지 사이 원장 변경으로 누락/중복 방지)
+                CoreClient.CoreEscrowStatusPage page = coreClient.getEscrowStatusPage(marker, 400, ledgerIndex);
+                if (ledgerIndex == null) ledgerIndex = page.ledgerIndex();
+                if (page.escrows() != null) {
+                    page.escrows().forEach(view::add);
+                }
+                marker = page.marker();
+            } while (marker != null);
+            return view;
+        } catch (CoreClientException e) {
+            log.warn("[저널복구] Core 에스크로 조회 불가, 결과 미기록 항목은 다음 주기로 미룸 | error={}", e.getMessage());
+            return null;
+        }
+    }
+
+    /** 원장 스냅샷은 필요한 항목이 있을 때 1회만 조회. Core 조회 실패 시 null (이번 주기는 다시 조회하지 않음) */
+    private final class LazyLedger {
+
+        private boolean loaded;
+        private LedgerView view;
+
+        LedgerView get() {
+            if (!loaded) {
+                view = loadLedger();
+                loaded = true;
+            }
+            return view;
+        }
+    }
+
+    /** 복구 판단용 원장 스냅샷 (txHash, 수령자+DestinationTag) */
+    private static final class LedgerView {
+
+        private final Set<String> txHashes = new HashSet<>();
+        private final Map<String, List<String>> byDestination = new HashMap<>();
+
+        void add(CoreClient.CoreEscrowStatusItem item) {
+            txHashes.add(item.txHash());
+            byDestination.computeIfAbsent(item.destination() + "|" + item.destinationTag(), k -> new ArrayList<>())
+                    .add(item.txHash());
+        }
+
+        boolean contains(String txHash) {
+            return txHashes.contains(txHash);
+        }
+
+        List<String> byDestination(String destination, Long destinationTag) {
+            return byDestination.getOrDefault(destination + "|" + destinationTag, List.of());
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.uniqdata.backend.journal;
+
+/**
+ * CHECKPOINT 가 아직 없는 저널 항목 (Core 호출 전후로 중단되었을 수 있음).
+ *
+ * @param outcome 없으면 null — Core 호출 결과를 모름
+ * @param segment INTENT 레코드가 있는 세그먼트 번호. 이보다 오래된 세그먼트만 정리 가능
+ */
+public record PendingEscrowOperation(EscrowJournalEntry intent, EscrowJournalEntry outcome, long segment) {
+
+    PendingEscrowOperation withOutcome(EscrowJournalEntry outcome) {
+        return new PendingEscrowOperation(intent, outcome, segment);
+    }
+
+    public boolean succeeded() {
+        return outcome != null && outcome.status() == EscrowJournalEntry.Status.SUCCEEDED;
+    }
+}
@@ -0,0 +1,104 @@
+package com.uniqdata.backend.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.AsyncAppenderBase;
+
+import java.lang.reflect.Field;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 버린 이벤트 수를 세는 logback AsyncAppender.
+ * neverBlock=true 로 쓰면 큐(고정 크기 배열 링버퍼)가 차도 요청 스레드가 막히지 않고 이벤트를 버리는데,
+ * 기본 AsyncAppender 는 그 수를 노출하지 않으므로 appender 이름별로 집계함.
+ * 큐 상태를 미리 보고 추정하면 다른 스레드와 경합할 때 틀리므로, 적재 경로(AsyncAppenderBase.append)를
+ * 그대로 옮겨 임계치 폐기와 offer 실패를 실제 결과로 셈. 큐는 logback 이 노출하지 않아 start 때 reflection 으로 얻음.
+ */
+public class CountingAsyncAppender extends AsyncAppender {
+
+    private static final Map<String, LongAdder> DROPPED = new ConcurrentHashMap<>();
+
+    private LongAdder dropped;
+    private BlockingQueue<ILoggingEvent> queue;
+
+    @Override
+    public void start() {
+        dropped = DROPPED.computeIfAbsent(getName(), k -> new LongAdder());
+        super.start();
+        if (isStarted()) {
+            queue = queueOf();
+        }
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        if (queue == null) {
+            // 큐를 얻지 못했으면 집계 없이 기본 동작
+            super.append(event);
+            return;
+        }
+        // AsyncAppenderBase.append 와 같은 순서: 임계치 아래면 INFO 이하 폐기 → 전처리 → 적재
+        if (queue.remainingCapacity() < getDiscardingThreshold() && isDiscardable(event)) {
+            dropped.increment();
+            return;
+        }
+        preprocess(event);
+        if (isNeverBlock()) {
+            if (!queue.offer(event)) {
+                dropped.increment();
+            }
+            return;
+        }
+        putUninterruptibly(event);
+    }
+
+    private void putUninterruptibly(ILoggingEvent event) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    queue.put(event);
+                    return;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private BlockingQueue<ILoggingEvent> queueOf() {
+        try {
+            Field field = AsyncAppenderBase.class.getDeclaredField("blockingQueue");
+            field.setAccessible(true);
+            return (BlockingQueue<ILoggingEvent>) field.get(this);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            addWarn("Cannot access event queue of appender [" + getName() + "], dropped events will not be counted", e);
+            return null;
+        }
+    }
+
+    @Override
+    public void stop() {
+        if (dropped != null && dropped.sum() > 0) {
+            addWarn("Dropped " + dropped.sum() + " logging events in appender [" + getName() + "]");
+        }
+        super.stop();
+        queue = null;
+    }
+
+    /** appender 이름 → 버린 이벤트 수 */
+    public static Map<String, Long> droppedCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        DROPPED.forEach((name, adder) -> counts.put(name, adder.sum()));
+        return counts;
+    }
+}
@@ -0,0 +1,29 @@
+package com.uniqdata.backend.logging;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@Tag(name = "Logging", description = "비동기 로깅 상태 (버린 이벤트, 생략한 스택트레이스)")
+@RestController
+@RequestMapping("/api/v2/logging")
+@RequiredArgsConstructor
+public class LoggingStatsController {
+
+    private final StackTraceSampler stackTraceSampler;
+
+    @Operation(summary = "로깅 통계", description = "dropped_events: appender별 큐 포화로 버린 이벤트 수, suppressed_stack_traces: 샘플링으로 생략한 4xx 스택트레이스 수")
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> stats() {
+        return ResponseEntity.ok(Map.of(
+                "dropped_events", CountingAsyncAppender.droppedCounts(),
+                "suppressed_stack_traces", stackTraceSampler.suppressedCount()
+        ));
+    }
+}
@@ -0,0 +1,30 @@
+package com.uniqdata.backend.logging;
+
+/**
+ * 로그용 지갑 주소 마스킹 인자. toString() 이 호출될 때(= 로그가 실제로 출력될 때)만 문자열을 만듦.
+ * 래퍼 자체와 가변인자 배열·long boxing 은 레벨 확인 전에 할당되므로, 요청 경로의 INFO/DEBUG 로그는 레벨 가드 안에서 호출
+ * (꺼진 레벨에서 할당 0 — FilteredLogAllocationBenchmark). WARN/ERROR 처럼 거의 항상 출력되는 로그는 가드 불필요.
+ * 사용: if (log.isInfoEnabled()) log.info("... | participantAddress={}", MaskedAddress.of(address));
+ */
+public final class MaskedAddress {
+
+    private static final int VISIBLE_PREFIX = 12;
+    private static final MaskedAddress NULL = new MaskedAddress(null);
+
+    private final String address;
+
+    private MaskedAddress(String address) {
+        this.address = address;
+    }
+
+    public static MaskedAddress of(String address) {
+        return address == null ? NULL : new MaskedAddress(address);
+    }
+
+    @Override
+    public String toString() {
+        if (address == null) return "null";
+        if (address.length() <= VISIBLE_PREFIX) return address + "...";
+        return address.substring(0, VISIBLE_PREFIX) + "...";
+    }
+}
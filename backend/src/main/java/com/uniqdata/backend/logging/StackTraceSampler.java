@@ -0,0 +1,54 @@
+package com.uniqdata.backend.logging;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 반복되는 클라이언트 오류(4xx)의 스택트레이스 샘플링.
+ * 같은 예외 타입 + 발생 위치는 window 당 1번만 스택트레이스를 남기고 나머지는 한 줄 로그로 기록.
+ * 사용: log.error("... | message={}", msg, stackTraceSampler.sample(e)); — 샘플 밖이면 null 이 넘어가 스택트레이스 생략.
+ */
+@Component
+public class StackTraceSampler {
+
+    private static final int MAX_KEYS = 1000;
+
+    @Value("${logging.client-error.stack-sample-window:PT1M}")
+    private Duration window;
+
+    private final Map<String, AtomicLong> lastLoggedAt = new ConcurrentHashMap<>();
+    private final LongAdder suppressed = new LongAdder();
+
+    /**
+     * 이번 로그에 스택트레이스를 붙일지 판단. 붙일 때는 e, 아니면 null.
+     */
+    public Throwable sample(Throwable e) {
+        if (lastLoggedAt.size() > MAX_KEYS) {
+            lastLoggedAt.clear();
+        }
+        AtomicLong last = lastLoggedAt.computeIfAbsent(key(e), k -> new AtomicLong(Long.MIN_VALUE));
+        long now = System.nanoTime();
+        long prev = last.get();
+        if ((prev == Long.MIN_VALUE || now - prev >= window.toNanos()) && last.compareAndSet(prev, now)) {
+            return e;
+        }
+        suppressed.increment();
+        return null;
+    }
+
+    /** 생략한 스택트레이스 누적 수 */
+    public long suppressedCount() {
+        return suppressed.sum();
+    }
+
+    private static String key(Throwable e) {
+        StackTraceElement[] trace = e.getStackTrace();
+        return trace.length > 0 ? e.getClass().getName() + "@" + trace[0] : e.getClass().getName();
+    }
+}
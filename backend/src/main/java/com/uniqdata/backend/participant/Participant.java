@@ -11,6 +11,11 @@ import java.time.Instant;
 @Entity
 @Table(name = "participants", uniqueConstraints = {
         @UniqueConstraint(columnNames = { "project_id", "participant_address" })
+}, indexes = {
+        // 주소 기준 전체 연구 조회 (GET /api/v2/participants/{address}/projects)
+        @Index(name = "idx_participants_address_project", columnList = "participant_address, project_id"),
+        // 원장 이벤트(소유자 + OfferSequence) → 참여자 매칭
+        @Index(name = "idx_participants_escrow_owner_seq", columnList = "escrow_owner_address, offer_sequence")
 })
 @Getter
 @Setter
@@ -20,7 +25,8 @@ import java.time.Instant;
 public class Participant {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "participants_seq")
+    @SequenceGenerator(name = "participants_seq", sequenceName = "participants_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "project_id", nullable = false)
@@ -0,0 +1,16 @@
+package com.uniqdata.backend.participant;
+
+import java.time.Instant;
+
+/**
+ * 참여자 에스크로 대조용 경량 조회 결과 (엔티티 로딩 없이 키셋 스캔).
+ */
+public record ParticipantEscrowRef(
+        Long id,
+        Long projectId,
+        String participantAddress,
+        String escrowTxHash,
+        boolean active,
+        Instant enrolledAt,
+        Instant withdrawnAt
+) {}
@@ -0,0 +1,30 @@
+package com.uniqdata.backend.participant;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+@Tag(name = "Participants", description = "참여 신청·철회 (내부에서 Core 에스크로 생성/취소 호출)")
+@RestController
+@RequestMapping("/api/v2/participants")
+@RequiredArgsConstructor
+public class ParticipantLookupController {
+
+    private final ParticipantService participantService;
+
+    @Operation(summary = "내 연구 목록 (주소 기준)", description = "지갑 주소가 참여한 모든 연구 요약. 철회한 연구도 active=false 로 포함")
+    @GetMapping("/{address}/projects")
+    public ResponseEntity<List<ParticipantProjectSummary>> listProjects(@PathVariable String address) {
+        if (address == null || address.isBlank()) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(participantService.listProjectsByAddress(address));
+    }
+}
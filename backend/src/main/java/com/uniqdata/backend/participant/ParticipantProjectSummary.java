@@ -0,0 +1,19 @@
+package com.uniqdata.backend.participant;
+
+import com.uniqdata.backend.project.Project;
+
+import java.time.Instant;
+
+/**
+ * 지갑 주소 기준 참여 연구 요약 ("내 연구" 목록).
+ */
+public record ParticipantProjectSummary(
+        Long projectId,
+        String title,
+        Project.ProjectStatus status,
+        Long escrowAmountXrp,
+        Long participantId,
+        boolean active,
+        Instant enrolledAt,
+        Instant withdrawnAt
+) {}
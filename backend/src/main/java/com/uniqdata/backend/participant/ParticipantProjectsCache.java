@@ -0,0 +1,77 @@
+package com.uniqdata.backend.participant;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주소별 참여 연구 목록 캐시 (자주 조회되는 지갑용). LRU + TTL 로 크기 제한.
+ * 참여/철회 커밋 후 무효화하며, 무효화 시점이나 이미 들어 있는 값의 조회보다 먼저 시작된 조회 결과는 넣지 않음.
+ */
+@Component
+public class ParticipantProjectsCache {
+
+    @Value("${participant.projects-cache.max-entries:1000}")
+    private int maxEntries;
+
+    @Value("${participant.projects-cache.ttl:PT1M}")
+    private Duration ttl;
+
+    /** value == null 이면 무효화 표시 (at = 무효화 시각), 아니면 at = 값을 읽은 조회의 시작 시각 */
+    private record Entry(List<ParticipantProjectSummary> value, long at) {}
+
+    private final Map<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+            return size() > maxEntries;
+        }
+    };
+
+    /** 조회 시작 시각. put 시 함께 넘겨 무효화와의 경합을 판단 */
+    public long startRead() {
+        return System.nanoTime();
+    }
+
+    public synchronized List<ParticipantProjectSummary> get(String address) {
+        Entry entry = entries.get(address);
+        if (entry == null || entry.value() == null) return null;
+        if (System.nanoTime() - entry.at() > ttl.toNanos()) {
+            entries.remove(address);
+            return null;
+        }
+        return entry.value();
+    }
+
+    public synchronized void put(String address, List<ParticipantProjectSummary> value, long readStartedAt) {
+        Entry existing = entries.get(address);
+        // 무효화 표시든 더 나중에 시작된 조회의 값이든, 이 조회보다 새 항목이면 덮지 않음
+        if (existing != null && existing.at() - readStartedAt > 0) {
+            return;
+        }
+        entries.put(address, new Entry(List.copyOf(value), readStartedAt));
+    }
+
+    public synchronized void invalidate(String address) {
+        entries.put(address, new Entry(null, System.nanoTime()));
+    }
+
+    /** 트랜잭션 안이면 커밋 후, 아니면 즉시 무효화 */
+    public void invalidateAfterCommit(String address) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(address);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidate(address);
+            }
+        });
+    }
+}
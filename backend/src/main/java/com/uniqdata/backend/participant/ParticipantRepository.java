@@ -1,7 +1,11 @@
 package com.uniqdata.backend.participant;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,4 +22,23 @@ public interface ParticipantRepository extends JpaRepository<Participant, Long>
     long countByProjectIdAndActive(Long projectId, boolean active);
 
     long countByActive(boolean active);
+
+    List<Participant> findByEscrowOwnerAddressAndOfferSequenceIn(String escrowOwnerAddress, Collection<Long> offerSequences);
+
+    /**
+     * 지갑 주소가 참여한 모든 연구 요약. 주소 선두 인덱스 + projects 조인 1회 (연구별 findById 없음).
+     */
+    @Query("select new com.uniqdata.backend.participant.ParticipantProjectSummary("
+            + "pr.id, pr.title, pr.status, pr.escrowAmountXrp, p.id, p.active, p.enrolledAt, p.withdrawnAt) "
+            + "from Participant p join Project pr on pr.id = p.projectId "
+            + "where p.participantAddress = :address order by p.enrolledAt desc")
+    List<ParticipantProjectSummary> findProjectSummariesByAddress(@Param("address") String participantAddress);
+
+    /**
+     * id 키셋 페이지 조회 (정합성 검사용). 엔티티 대신 에스크로 대조에 필요한 컬럼만 읽음.
+     */
+    @Query("select new com.uniqdata.backend.participant.ParticipantEscrowRef("
+            + "p.id, p.projectId, p.participantAddress, p.escrowTxHash, p.active, p.enrolledAt, p.withdrawnAt) "
+            + "from Participant p where p.id > :afterId order by p.id")
+    List<ParticipantEscrowRef> findEscrowRefsAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
@@ -2,6 +2,9 @@ package com.uniqdata.backend.participant;
 
 import com.uniqdata.backend.core.CoreClient;
 import com.uniqdata.backend.core.CoreClientException;
+import com.uniqdata.backend.datasource.ReadYourWritesTracker;
+import com.uniqdata.backend.journal.EscrowJournal;
+import com.uniqdata.backend.logging.MaskedAddress;
 import com.uniqdata.backend.project.Project;
 import com.uniqdata.backend.project.ProjectRepository;
 import lombok.RequiredArgsConstructor;
@@ -22,14 +25,19 @@ public class ParticipantService {
     private final ParticipantRepository participantRepository;
     private final ProjectRepository projectRepository;
     private final CoreClient coreClient;
+    private final ParticipantProjectsCache projectsCache;
+    private final EscrowJournal escrowJournal;
+    private final ReadYourWritesTracker readYourWrites;
 
     /**
      * 연구 참여 신청 — DB 저장 + Core 에스크로 생성
      */
     @Transactional
     public Participant enroll(Long projectId, String participantAddress) {
-        log.info("[참여신청] enroll 시작 | projectId={} | participantAddress={}...",
-                projectId, participantAddress != null ? participantAddress.substring(0, Math.min(12, participantAddress.length())) + "..." : "null");
+        if (log.isInfoEnabled()) {
+            log.info("[참여신청] enroll 시작 | projectId={} | participantAddress={}",
+                    projectId, MaskedAddress.of(participantAddress));
+        }
 
         Project project = projectRepository.findById(projectId)
                 .orElseThrow(() -> {
@@ -39,8 +47,8 @@ public class ParticipantService {
 
         participantRepository.findByProjectIdAndParticipantAddress(projectId, participantAddress)
                 .ifPresent(p -> {
-                    log.warn("[참여신청] 이미 참여 중 | projectId={} | participantAddress={}...", projectId,
-                            participantAddress != null ? participantAddress.substring(0, Math.min(12, participantAddress.length())) + "..." : "null");
+                    log.warn("[참여신청] 이미 참여 중 | projectId={} | participantAddress={}", projectId,
+                            MaskedAddress.of(participantAddress));
                     throw new IllegalArgumentException("Already enrolled");
                 });
 
@@ -55,8 +63,11 @@ public class ParticipantService {
             throw new IllegalArgumentException("participantAddress is required");
         }
 
-        log.info("[참여신청] Core createEscrow 호출 | projectId={} | addressForCore={}... | amountXrp={}",
-                projectId, addressForCore.substring(0, Math.min(12, addressForCore.length())) + "...", amountXrp);
+        if (log.isInfoEnabled()) {
+            log.info("[참여신청] Core createEscrow 호출 | projectId={} | addressForCore={} | amountXrp={}",
+                    projectId, MaskedAddress.of(addressForCore), amountXrp);
+        }
+        long journalId = escrowJournal.logCreateIntent(projectId, addressForCore, amountXrp);
         CoreClient.CoreEscrowCreateResponse coreResponse;
         try {
             coreResponse = coreClient.createEscrow(
@@ -65,11 +76,13 @@ public class ParticipantService {
                     amountXrp
             );
         } catch (CoreClientException e) {
-            log.error("[참여신청] Core createEscrow 실패 | projectId={} | addressForCore={}... | error={}",
-                    projectId, addressForCore.substring(0, Math.min(12, addressForCore.length())) + "...", e.getMessage(), e);
+            escrowJournal.logFailed(journalId);
+            log.error("[참여신청] Core createEscrow 실패 | projectId={} | addressForCore={} | error={}",
+                    projectId, MaskedAddress.of(addressForCore), e.getMessage(), e);
             throw new IllegalStateException("블록체인 에스크로 생성 실패. Core 서버 확인: " + e.getMessage());
         }
 
+        escrowJournal.logSucceeded(journalId, coreResponse.ownerAddress(), coreResponse.offerSequence(), coreResponse.txHash());
         log.info("[참여신청] Core createEscrow 성공 | projectId={} | txHash={}", projectId, coreResponse.txHash());
         Participant participant = Participant.builder()
                 .projectId(projectId)
@@ -80,6 +93,10 @@ public class ParticipantService {
                 .active(true)
                 .build();
         Participant saved = participantRepository.save(participant);
+        projectsCache.invalidateAfterCommit(addressForCore);
+        readYourWrites.recordWrite(addressForCore);
+        readYourWrites.recordWrite(projectKey(projectId));
+        escrowJournal.checkpointAfterCommit(journalId);
         log.info("[참여신청] DB 저장 완료 | projectId={} | participantId={}", projectId, saved.getId());
         return saved;
     }
@@ -89,8 +106,10 @@ public class ParticipantService {
      */
     @Transactional
     public Participant withdraw(Long projectId, String participantAddress) {
-        log.info("[참여철회] withdraw 시작 | projectId={} | participantAddress={}...",
-                projectId, participantAddress != null ? participantAddress.substring(0, Math.min(12, participantAddress.length())) + "..." : "null");
+        if (log.isInfoEnabled()) {
+            log.info("[참여철회] withdraw 시작 | projectId={} | participantAddress={}",
+                    projectId, MaskedAddress.of(participantAddress));
+        }
         Participant participant = participantRepository
                 .findByProjectIdAndParticipantAddress(projectId, participantAddress)
                 .orElseThrow(() -> new IllegalArgumentException("Participant not found"));
@@ -103,30 +122,66 @@ public class ParticipantService {
             throw new IllegalStateException("Escrow info missing, cannot cancel");
         }
 
+        long journalId = escrowJournal.logCancelIntent(projectId, participant.getParticipantAddress(),
+                participant.getEscrowOwnerAddress(), participant.getOfferSequence(), participant.getEscrowTxHash());
+        CoreClient.CoreEscrowCancelResponse cancelResponse;
         try {
-            log.info("[참여철회] Core cancelEscrow 호출 | participantId={} | ownerAddress={}... | offerSequence={}",
-                    participant.getId(), participant.getEscrowOwnerAddress() != null ? participant.getEscrowOwnerAddress().substring(0, Math.min(12, participant.getEscrowOwnerAddress().length())) + "..." : "null",
-                    participant.getOfferSequence());
-            coreClient.cancelEscrow(participant.getEscrowOwnerAddress(), participant.getOfferSequence());
+            if (log.isInfoEnabled()) {
+                log.info("[참여철회] Core cancelEscrow 호출 | participantId={} | ownerAddress={} | offerSequence={}",
+                        participant.getId(), MaskedAddress.of(participant.getEscrowOwnerAddress()),
+                        participant.getOfferSequence());
+            }
+            cancelResponse = coreClient.cancelEscrow(participant.getEscrowOwnerAddress(), participant.getOfferSequence());
         } catch (CoreClientException e) {
+            escrowJournal.logFailed(journalId);
             log.error("[참여철회] Core cancelEscrow 실패 | participantId={} | error={}", participant.getId(), e.getMessage(), e);
             throw new IllegalStateException("블록체인 에스크로 취소 실패: " + e.getMessage());
         }
 
+        escrowJournal.logSucceeded(journalId, participant.getEscrowOwnerAddress(), participant.getOfferSequence(), cancelResponse.txHash());
         log.info("[참여철회] withdraw 성공 | participantId={}", participant.getId());
         participant.setActive(false);
         participant.setWithdrawnAt(java.time.Instant.now());
-        return participantRepository.save(participant);
+        projectsCache.invalidateAfterCommit(participant.getParticipantAddress());
+        readYourWrites.recordWrite(participant.getParticipantAddress());
+        readYourWrites.recordWrite(projectKey(projectId));
+        escrowJournal.checkpointAfterCommit(journalId);
+        // 영속 상태 엔티티 — 커밋 시 dirty checking 으로 UPDATE (save 불필요)
+        return participant;
     }
 
     @Transactional(readOnly = true)
     public List<Participant> listByProject(Long projectId) {
+        readYourWrites.pinPrimaryIfRecentWrite(projectKey(projectId));
         return participantRepository.findByProjectId(projectId);
     }
 
     @Transactional(readOnly = true)
     public Participant getByProjectAndAddress(Long projectId, String participantAddress) {
+        readYourWrites.pinPrimaryIfRecentWrite(participantAddress);
         return participantRepository.findByProjectIdAndParticipantAddress(projectId, participantAddress)
                 .orElseThrow(() -> new IllegalArgumentException("Participant not found"));
     }
+
+    /**
+     * 지갑 주소가 참여한 모든 연구 (참여 이력 포함, 최근 참여 순). 자주 조회되는 주소는 캐시에서 반환.
+     */
+    @Transactional(readOnly = true)
+    public List<ParticipantProjectSummary> listProjectsByAddress(String participantAddress) {
+        String address = participantAddress.trim();
+        List<ParticipantProjectSummary> cached = projectsCache.get(address);
+        if (cached != null) {
+            return cached;
+        }
+        readYourWrites.pinPrimaryIfRecentWrite(address);
+        long readStartedAt = projectsCache.startRead();
+        List<ParticipantProjectSummary> projects = participantRepository.findProjectSummariesByAddress(address);
+        projectsCache.put(address, projects, readStartedAt);
+        return projects;
+    }
+
+    /** 연구 단위 read-your-writes key. 참여자 주소(r...)와 겹치지 않게 접두어를 붙임 */
+    private static String projectKey(Long projectId) {
+        return "project:" + projectId;
+    }
 }
@@ -18,8 +18,10 @@ import java.time.Instant;
 @Builder
 public class Project {
 
+    /** 시퀀스 pooled 할당 (allocationSize 만큼 미리 예약) — IDENTITY 와 달리 INSERT 를 JDBC 배치로 묶을 수 있음 */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "projects_seq")
+    @SequenceGenerator(name = "projects_seq", sequenceName = "projects_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -0,0 +1,10 @@
+package com.uniqdata.backend.project;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ProjectBulkCreateDto {
+    private List<ProjectCreateDto> projects;
+}
@@ -0,0 +1,11 @@
+package com.uniqdata.backend.project;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ProjectBulkStatusDto {
+    private List<Long> ids;
+    private Project.ProjectStatus status;
+}
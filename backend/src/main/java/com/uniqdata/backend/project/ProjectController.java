@@ -60,6 +60,18 @@ public class ProjectController {
         return ResponseEntity.ok(projectService.create(dto));
     }
 
+    @Operation(summary = "연구 일괄 생성", description = "모두 DRAFT 상태로 생성. INSERT 는 JDBC 배치로 전송 (최대 project.bulk.max-size 건)")
+    @PostMapping("/bulk")
+    public ResponseEntity<List<Project>> createAll(@RequestBody ProjectBulkCreateDto dto) {
+        return ResponseEntity.ok(projectService.createAll(dto.getProjects()));
+    }
+
+    @Operation(summary = "연구 상태 일괄 변경", description = "ids 중 하나라도 없으면 400, 전체 미반영")
+    @PatchMapping("/status")
+    public ResponseEntity<List<Project>> updateStatusAll(@RequestBody ProjectBulkStatusDto dto) {
+        return ResponseEntity.ok(projectService.updateStatusAll(dto.getIds(), dto.getStatus()));
+    }
+
     @Operation(summary = "연구 수정")
     @PatchMapping("/{id}")
     public ResponseEntity<Project> update(@PathVariable Long id, @RequestBody ProjectUpdateDto dto) {
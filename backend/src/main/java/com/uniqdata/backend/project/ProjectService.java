@@ -1,9 +1,11 @@
 package com.uniqdata.backend.project;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
 
 @Service
@@ -12,6 +14,9 @@ public class ProjectService {
 
     private final ProjectRepository projectRepository;
 
+    @Value("${project.bulk.max-size:1000}")
+    private int maxBulkSize;
+
     @Transactional(readOnly = true)
     public List<Project> findAll(Project.ProjectStatus status) {
         if (status == null) {
@@ -44,7 +49,49 @@ public class ProjectService {
         if (dto.getDescription() != null) project.setDescription(dto.getDescription());
         if (dto.getStatus() != null) project.setStatus(dto.getStatus());
         if (dto.getEscrowAmountXrp() != null) project.setEscrowAmountXrp(dto.getEscrowAmountXrp());
-        return projectRepository.save(project);
+        // 영속 상태 엔티티 — 커밋 시 변경 컬럼만 UPDATE (save 불필요)
+        return project;
+    }
+
+    /**
+     * 연구 일괄 생성. 시퀀스 pooled 할당 + hibernate.jdbc.batch_size 로 INSERT 를 배치 단위로 전송.
+     */
+    @Transactional
+    public List<Project> createAll(List<ProjectCreateDto> dtos) {
+        if (dtos == null || dtos.isEmpty()) {
+            throw new IllegalArgumentException("projects is required");
+        }
+        if (dtos.size() > maxBulkSize) {
+            throw new IllegalArgumentException("Too many projects: " + dtos.size() + " (max " + maxBulkSize + ")");
+        }
+        List<Project> projects = dtos.stream()
+                .map(dto -> Project.builder()
+                        .title(dto.getTitle())
+                        .description(dto.getDescription())
+                        .status(Project.ProjectStatus.DRAFT)
+                        .escrowAmountXrp(dto.getEscrowAmountXrp() != null ? dto.getEscrowAmountXrp() : 0L)
+                        .build())
+                .toList();
+        return projectRepository.saveAll(projects);
+    }
+
+    /**
+     * 연구 상태 일괄 변경. 한 번에 조회 후 dirty checking 으로 UPDATE 배치 전송 (order_updates).
+     */
+    @Transactional
+    public List<Project> updateStatusAll(List<Long> ids, Project.ProjectStatus status) {
+        if (ids == null || ids.isEmpty() || status == null) {
+            throw new IllegalArgumentException("ids and status are required");
+        }
+        if (ids.size() > maxBulkSize) {
+            throw new IllegalArgumentException("Too many projects: " + ids.size() + " (max " + maxBulkSize + ")");
+        }
+        List<Project> projects = projectRepository.findAllById(ids);
+        if (projects.size() != new HashSet<>(ids).size()) {
+            throw new IllegalArgumentException("Project not found in ids");
+        }
+        projects.forEach(p -> p.setStatus(status));
+        return projects;
     }
 
     @Transactional
@@ -0,0 +1,22 @@
+package com.uniqdata.backend.reconciliation;
+
+/**
+ * 참여자 테이블과 원장 에스크로가 어긋난 건.
+ * 원장에만 있는 에스크로는 participantId 가 null.
+ */
+public record EscrowDiscrepancy(
+        Type type,
+        Long participantId,
+        Long projectId,
+        String participantAddress,
+        String escrowTxHash,
+        String ledgerDestination,
+        String ledgerAmountDrops
+) {
+
+    public enum Type {
+        MISSING,     // 활성 참여자인데 원장에 에스크로 없음
+        ORPHANED,    // 원장에 에스크로가 있는데 참여자 없음 또는 이미 철회됨
+        MISMATCHED   // 에스크로 수령자/DestinationTag 가 참여자 정보와 다름
+    }
+}
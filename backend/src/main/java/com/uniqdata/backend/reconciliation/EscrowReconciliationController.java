@@ -0,0 +1,32 @@
+package com.uniqdata.backend.reconciliation;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Tag(name = "Reconciliation", description = "참여자 테이블 ↔ 원장 에스크로 정합성 검사")
+@RestController
+@RequestMapping("/api/v2/reconciliation/escrows")
+@RequiredArgsConstructor
+public class EscrowReconciliationController {
+
+    private final EscrowReconciliationService reconciliationService;
+
+    @Operation(summary = "정합성 검사 실행", description = "원장 에스크로와 참여자 테이블을 대조해 MISSING/ORPHANED/MISMATCHED 건을 보고. 실행 중이면 409")
+    @PostMapping
+    public ResponseEntity<EscrowReconciliationReport> run() {
+        return ResponseEntity.ok(reconciliationService.reconcile());
+    }
+
+    @Operation(summary = "최근 정합성 검사 결과", description = "실행 이력이 없으면 204")
+    @GetMapping("/latest")
+    public ResponseEntity<EscrowReconciliationReport> latest() {
+        EscrowReconciliationReport report = reconciliationService.getLastReport();
+        return report != null ? ResponseEntity.ok(report) : ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,33 @@
+package com.uniqdata.backend.reconciliation;
+
+import com.uniqdata.backend.cluster.ClusterScheduler;
+import com.uniqdata.backend.core.CoreClientException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 정합성 검사 주기 실행. reconciliation.escrow.cron 미설정 시 비활성 ("-").
+ * 여러 인스턴스 실행 시 클러스터 임대를 가진 노드 하나만 실행 (Core/원장 조회 중복 방지).
+ * 실행 중 임대를 잃으면 페이지 경계에서 중단 (미완료 보고).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EscrowReconciliationJob {
+
+    private final EscrowReconciliationService reconciliationService;
+    private final ClusterScheduler clusterScheduler;
+
+    @Scheduled(cron = "${reconciliation.escrow.cron:-}")
+    public void run() {
+        clusterScheduler.runExclusive("escrow-reconciliation", lease -> {
+            try {
+                reconciliationService.reconcile(lease);
+            } catch (IllegalStateException | CoreClientException e) {
+                log.warn("[정합성검사] 주기 실행 건너뜀 | reason={}", e.getMessage());
+            }
+        });
+    }
+}
@@ -0,0 +1,22 @@
+package com.uniqdata.backend.reconciliation;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 정합성 검사 1회 결과.
+ * completed=false 면 시간 예산 초과로 중단된 것이며, 이때 원장 쪽 ORPHANED(참여자 없음)는 판정하지 않음.
+ */
+public record EscrowReconciliationReport(
+        Instant startedAt,
+        Instant finishedAt,
+        boolean completed,
+        Long ledgerIndex,
+        long ledgerEscrows,
+        long participantsScanned,
+        Long lastParticipantId,
+        Map<EscrowDiscrepancy.Type, Long> counts,
+        List<EscrowDiscrepancy> discrepancies,
+        boolean truncated
+) {}
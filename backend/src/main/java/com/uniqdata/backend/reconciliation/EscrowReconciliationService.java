@@ -0,0 +1,259 @@
+package com.uniqdata.backend.reconciliation;
+
+import com.uniqdata.backend.cluster.LeaseGuard;
+import com.uniqdata.backend.core.CoreClient;
+import com.uniqdata.backend.participant.ParticipantEscrowRef;
+import com.uniqdata.backend.participant.ParticipantRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 참여자 테이블 ↔ 원장 에스크로 정합성 검사.
+ * 1) Core 에스크로 상태 일괄 조회(account_objects 페이지)로 원장 스냅샷을 txHash 기준으로 적재
+ * 2) 참여자를 id 키셋 순서로 읽으며 페이지 단위로 병렬 대조 (동시 처리 페이지 수 제한)
+ * 3) 끝까지 스캔했으면 스냅샷에 남은 에스크로는 참여자 없는 ORPHANED
+ * 시간 예산을 넘기거나 클러스터 임대를 잃으면 그 시점까지의 결과만 보고하고 중단.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EscrowReconciliationService {
+
+    private final ParticipantRepository participantRepository;
+    private final CoreClient coreClient;
+
+    @Value("${reconciliation.escrow.ledger-page-size:400}")
+    private int ledgerPageSize;
+
+    @Value("${reconciliation.escrow.participant-page-size:1000}")
+    private int participantPageSize;
+
+    @Value("${reconciliation.escrow.parallelism:4}")
+    private int parallelism;
+
+    @Value("${reconciliation.escrow.time-budget:PT10M}")
+    private Duration timeBudget;
+
+    @Value("${reconciliation.escrow.max-findings:1000}")
+    private int maxFindings;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile EscrowReconciliationReport lastReport;
+
+    public EscrowReconciliationReport getLastReport() {
+        return lastReport;
+    }
+
+    /**
+     * 정합성 검사 1회 실행 (수동 실행용, 임대 확인 없음). 이미 실행 중이면 IllegalStateException.
+     */
+    public EscrowReconciliationReport reconcile() {
+        return reconcile(LeaseGuard.NONE);
+    }
+
+    /**
+     * 클러스터 작업으로 실행. 원장·참여자 페이지마다 임대를 재확인하고 잃으면 미완료로 중단.
+     */
+    public EscrowReconciliationReport reconcile(LeaseGuard lease) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("Escrow reconciliation already running");
+        }
+        try {
+            EscrowReconciliationReport report = doReconcile(lease);
+            lastReport = report;
+            return report;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private EscrowReconciliationReport doReconcile(LeaseGuard lease) {
+        Instant startedAt = Instant.now();
+        Instant deadline = startedAt.plus(timeBudget);
+        Findings findings = new Findings(maxFindings);
+        log.info("[정합성검사] 시작 | timeBudget={} | parallelism={}", timeBudget, parallelism);
+
+        // 1) 원장 스냅샷. 첫 페이지의 ledgerIndex 로 이후 페이지를 고정해 한 원장 버전 기준으로 적재.
+        //    스냅샷 시작 이후 참여·탈퇴한 건은 원장 스냅샷과 어긋날 수 있으므로 대조에서 제외함
+        Map<String, LedgerEscrow> ledger = new ConcurrentHashMap<>();
+        Long ledgerIndex = null;
+        String marker = null;
+        do {
+            if (Instant.now().isAfter(deadline)) {
+                log.warn("[정합성검사] 원장 스냅샷 중 시간 예산 초과 | loaded={}", ledger.size());
+                return findings.toReport(startedAt, false, ledgerIndex, ledger.size(), 0, null);
+            }
+            if (!lease.stillOwned()) {
+                log.warn("[정합성검사] 원장 스냅샷 중 임대 상실, 중단 | loaded={}", ledger.size());
+                return findings.toReport(startedAt, false, ledgerIndex, ledger.size(), 0, null);
+            }
+            CoreClient.CoreEscrowStatusPage page = coreClient.getEscrowStatusPage(marker, ledgerPageSize, ledgerIndex);
+            if (ledgerIndex == null) ledgerIndex = page.ledgerIndex();
+            if (page.escrows() != null) {
+                for (CoreClient.CoreEscrowStatusItem item : page.escrows()) {
+                    ledger.put(item.txHash(), new LedgerEscrow(item.destination(), item.destinationTag(), item.amountDrops()));
+                }
+            }
+            marker = page.marker();
+        } while (marker != null);
+        long ledgerEscrows = ledger.size();
+        log.info("[정합성검사] 원장 스냅샷 완료 | ledgerIndex={} | escrows={}", ledgerIndex, ledgerEscrows);
+
+        // 2) 참여자 키셋 스캔 + 페이지 단위 병렬 대조
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        Semaphore inFlight = new Semaphore(parallelism * 2);
+        AtomicLong scanned = new AtomicLong();
+        long lastId = 0L;
+        boolean completed = true;
+        try {
+            while (true) {
+                if (Instant.now().isAfter(deadline)) {
+                    completed = false;
+                    break;
+                }
+                if (!lease.stillOwned()) {
+                    log.warn("[정합성검사] 참여자 스캔 중 임대 상실, 중단 | lastParticipantId={}", lastId);
+                    completed = false;
+                    break;
+                }
+                List<ParticipantEscrowRef> page =
+                        participantRepository.findEscrowRefsAfter(lastId, PageRequest.ofSize(participantPageSize));
+                if (page.isEmpty()) break;
+                lastId = page.get(page.size() - 1).id();
+                inFlight.acquire();
+                executor.execute(() -> {
+                    try {
+                        compare(page, ledger, startedAt, findings);
+                        scanned.addAndGet(page.size());
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+                if (page.size() < participantPageSize) break;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            completed = false;
+        } finally {
+            executor.shutdown();
+            try {
+                if (!executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                    executor.shutdownNow();
+                    completed = false;
+                }
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+                completed = false;
+            }
+        }
+
+        // 3) 전체 스캔했을 때만 남은 원장 에스크로를 ORPHANED 로 판정
+        if (completed) {
+            ledger.forEach((txHash, escrow) -> findings.add(new EscrowDiscrepancy(
+                    EscrowDiscrepancy.Type.ORPHANED, null, escrow.destinationTag(), null, txHash,
+                    escrow.destination(), escrow.amountDrops())));
+        }
+
+        EscrowReconciliationReport report =
+                findings.toReport(startedAt, completed, ledgerIndex, ledgerEscrows, scanned.get(), lastId);
+        log.info("[정합성검사] 종료 | completed={} | participantsScanned={} | lastParticipantId={} | counts={}",
+                completed, report.participantsScanned(), lastId, report.counts());
+        return report;
+    }
+
+    private void compare(List<ParticipantEscrowRef> page, Map<String, LedgerEscrow> ledger,
+                         Instant snapshotAt, Findings findings) {
+        for (ParticipantEscrowRef ref : page) {
+            if (ref.enrolledAt() != null && ref.enrolledAt().isAfter(snapshotAt)) {
+                continue;
+            }
+            // 스냅샷 이후 탈퇴: DB 는 비활성이지만 스냅샷에는 에스크로가 남아 있을 수 있음.
+            // 대조에서 빼고 스냅샷에서도 지워 잔여 원장 ORPHANED 판정에 걸리지 않게 함
+            if (ref.withdrawnAt() != null && ref.withdrawnAt().isAfter(snapshotAt)) {
+                if (ref.escrowTxHash() != null) ledger.remove(ref.escrowTxHash());
+                continue;
+            }
+            LedgerEscrow escrow = ref.escrowTxHash() != null ? ledger.remove(ref.escrowTxHash()) : null;
+            if (ref.active()) {
+                if (escrow == null) {
+                    findings.add(discrepancy(EscrowDiscrepancy.Type.MISSING, ref, null));
+                } else if (!escrow.matches(ref)) {
+                    findings.add(discrepancy(EscrowDiscrepancy.Type.MISMATCHED, ref, escrow));
+                }
+            } else if (escrow != null) {
+                findings.add(discrepancy(EscrowDiscrepancy.Type.ORPHANED, ref, escrow));
+            }
+        }
+    }
+
+    private static EscrowDiscrepancy discrepancy(EscrowDiscrepancy.Type type, ParticipantEscrowRef ref, LedgerEscrow escrow) {
+        return new EscrowDiscrepancy(type, ref.id(), ref.projectId(), ref.participantAddress(), ref.escrowTxHash(),
+                escrow != null ? escrow.destination() : null,
+                escrow != null ? escrow.amountDrops() : null);
+    }
+
+    /** 원장 스냅샷 1건. 100만 건 적재를 고려해 대조에 필요한 필드만 보관 */
+    private record LedgerEscrow(String destination, Long destinationTag, String amountDrops) {
+
+        boolean matches(ParticipantEscrowRef ref) {
+            if (destination != null && !destination.equals(ref.participantAddress())) return false;
+            return destinationTag == null || destinationTag.equals(ref.projectId());
+        }
+    }
+
+    /** 병렬 대조 결과 수집. 건수는 전부 세고, 상세 목록은 maxFindings 까지만 보관 */
+    private static final class Findings {
+
+        private final int max;
+        private final Map<EscrowDiscrepancy.Type, AtomicLong> counts = new EnumMap<>(EscrowDiscrepancy.Type.class);
+        private final List<EscrowDiscrepancy> items = new ArrayList<>();
+
+        Findings(int max) {
+            this.max = max;
+            for (EscrowDiscrepancy.Type type : EscrowDiscrepancy.Type.values()) {
+                counts.put(type, new AtomicLong());
+            }
+        }
+
+        void add(EscrowDiscrepancy d) {
+            counts.get(d.type()).incrementAndGet();
+            synchronized (items) {
+                if (items.size() < max) items.add(d);
+            }
+        }
+
+        EscrowReconciliationReport toReport(Instant startedAt, boolean completed, Long ledgerIndex,
+                                            long ledgerEscrows, long scanned, Long lastParticipantId) {
+            Map<EscrowDiscrepancy.Type, Long> snapshot = new EnumMap<>(EscrowDiscrepancy.Type.class);
+            long total = 0;
+            for (var e : counts.entrySet()) {
+                snapshot.put(e.getKey(), e.getValue().get());
+                total += e.getValue().get();
+            }
+            List<EscrowDiscrepancy> copy;
+            synchronized (items) {
+                copy = List.copyOf(items);
+            }
+            return new EscrowReconciliationReport(startedAt, Instant.now(), completed, ledgerIndex, ledgerEscrows,
+                    scanned, lastParticipantId, snapshot, copy, total > copy.size());
+        }
+    }
+}
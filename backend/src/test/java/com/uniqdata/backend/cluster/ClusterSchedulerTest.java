@@ -0,0 +1,162 @@
+package com.uniqdata.backend.cluster;
+
+import com.uniqdata.backend.BackendApplication;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 같은 이름의 in-memory H2 를 공유하는 Spring 컨텍스트 여러 개를 클러스터 노드로 띄워 임대/샤드 동작 확인.
+ */
+class ClusterSchedulerTest {
+
+    private static final int SHARDS = 6;
+
+    private final List<ConfigurableApplicationContext> nodes = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        nodes.forEach(ConfigurableApplicationContext::close);
+        nodes.clear();
+    }
+
+    @Test
+    @DisplayName("runExclusive 를 여러 노드에서 동시에 호출해도 한 노드만 실행")
+    void runExclusiveRunsOnExactlyOneNode() throws Exception {
+        List<ClusterScheduler> schedulers = startCluster(3);
+        AtomicInteger runs = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(schedulers.size());
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (ClusterScheduler scheduler : schedulers) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return scheduler.runExclusive("test-exclusive", lease -> runs.incrementAndGet());
+                }));
+            }
+            start.countDown();
+            int ran = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(10, TimeUnit.SECONDS)) ran++;
+            }
+            assertThat(ran).isEqualTo(1);
+            assertThat(runs).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("샤드는 노드마다 겹치지 않게 나뉘고 합치면 전체")
+    void shardsAreSplitAcrossNodes() {
+        List<ClusterScheduler> schedulers = startCluster(3);
+        Map<Integer, String> ranBy = new ConcurrentHashMap<>();
+        List<Integer> duplicates = new CopyOnWriteArrayList<>();
+
+        for (ClusterScheduler scheduler : schedulers) {
+            scheduler.runSharded("test-sharded", (shard, lease) -> {
+                if (ranBy.putIfAbsent(shard.index(), scheduler.nodeId()) != null) duplicates.add(shard.index());
+            });
+        }
+
+        assertThat(duplicates).isEmpty();
+        assertThat(ranBy.keySet()).containsExactlyInAnyOrderElementsOf(IntStream.range(0, SHARDS).boxed().toList());
+        assertThat(new HashSet<>(ranBy.values())).hasSize(3);
+        for (ClusterScheduler scheduler : schedulers) {
+            assertThat(scheduler.assignedShards()).hasSize(SHARDS / 3);
+        }
+    }
+
+    @Test
+    @DisplayName("노드 컨텍스트가 종료되면 남은 노드가 단일 작업과 샤드를 인수")
+    void survivingNodeTakesOverAfterContextClose() {
+        List<ClusterScheduler> schedulers = startCluster(2);
+        ClusterScheduler first = schedulers.get(0);
+        ClusterScheduler second = schedulers.get(1);
+        assertThat(first.runExclusive("test-takeover", lease -> { })).isTrue();
+        assertThat(second.runExclusive("test-takeover", lease -> { })).isFalse();
+
+        nodes.remove(0).close();
+
+        assertThat(second.runExclusive("test-takeover", lease -> { })).isTrue();
+        assertThat(second.assignedShards()).hasSize(SHARDS);
+        Set<Integer> ran = new HashSet<>();
+        second.runSharded("test-takeover-sharded", (shard, lease) -> ran.add(shard.index()));
+        assertThat(ran).hasSize(SHARDS);
+    }
+
+    @Test
+    @DisplayName("실행 중 임대가 만료되어 다른 노드가 인수하면 LeaseGuard 가 false")
+    void leaseGuardReportsLossAfterTakeover() {
+        List<ClusterScheduler> schedulers = startCluster(2);
+        ClusterScheduler first = schedulers.get(0);
+        ClusterScheduler second = schedulers.get(1);
+        JdbcTemplate jdbc = nodes.get(0).getBean(JdbcTemplate.class);
+        AtomicBoolean ownedBefore = new AtomicBoolean();
+        AtomicBoolean ownedAfter = new AtomicBoolean(true);
+        AtomicBoolean secondTookOver = new AtomicBoolean();
+
+        first.runExclusive("test-guard", lease -> {
+            ownedBefore.set(lease.stillOwned());
+            // heartbeat 가 멈춘 것처럼 임대를 만료시키고 다른 노드가 인수
+            jdbc.update("update job_leases set leased_until = ? where name = ?",
+                    Timestamp.from(Instant.now().minusSeconds(1)), "test-guard");
+            secondTookOver.set(second.runExclusive("test-guard", other -> { }));
+            ownedAfter.set(lease.stillOwned());
+        });
+
+        assertThat(ownedBefore).isTrue();
+        assertThat(secondTookOver).isTrue();
+        assertThat(ownedAfter).isFalse();
+    }
+
+    private List<ClusterScheduler> startCluster(int size) {
+        String db = "cluster-test-" + UUID.randomUUID();
+        List<ClusterScheduler> schedulers = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            String nodeId = "node-" + (char) ('a' + i);
+            ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class)
+                    .web(WebApplicationType.NONE)
+                    // properties() 는 기본값이라 application.yml 에 덮이므로 명령행 인자로 전달
+                    .run(
+                            "--spring.datasource.url=jdbc:h2:mem:" + db + ";DB_CLOSE_DELAY=-1",
+                            // 노드마다 create-drop 하면 먼저 뜬 노드의 행이 지워지므로 공유 스키마는 update
+                            "--spring.jpa.hibernate.ddl-auto=update",
+                            "--cluster.enabled=true",
+                            "--cluster.node-id=" + nodeId,
+                            "--cluster.shards=" + SHARDS,
+                            "--cluster.heartbeat-interval=PT0.5S",
+                            "--escrow.journal.dir=build/test-data/" + db + "/" + nodeId,
+                            "--escrow.events.pending-retry-interval=PT1H");
+            nodes.add(context);
+            schedulers.add(context.getBean(ClusterScheduler.class));
+        }
+        return schedulers;
+    }
+}
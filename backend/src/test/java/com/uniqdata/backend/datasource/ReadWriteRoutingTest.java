@@ -0,0 +1,197 @@
+package com.uniqdata.backend.datasource;
+
+import com.uniqdata.backend.participant.Participant;
+import com.uniqdata.backend.participant.ParticipantRepository;
+import com.uniqdata.backend.participant.ParticipantService;
+import com.uniqdata.backend.project.Project;
+import com.uniqdata.backend.project.ProjectRepository;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * primary/replica 두 H2 풀로 라우팅 확인. 복제가 없으므로 primary 에만 쓴 행이 보이면 primary, 안 보이면 replica 에서 읽은 것.
+ * 복제 지연은 replica 의 replica_heartbeat 값을 직접 써서 흉내냄.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+        "replica.enabled=true",
+        "replica.init-schema=true",
+        "replica.max-lag=PT2S",
+        "replica.lag-check-interval=PT1H",
+        "replica.datasource.url=jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1",
+        "replica.datasource.username=sa",
+        "escrow.journal.dir=build/test-data/routing-${random.uuid}"
+})
+class ReadWriteRoutingTest {
+
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private ParticipantRepository participantRepository;
+    @Autowired
+    private ParticipantService participantService;
+    @Autowired
+    private ReadYourWritesTracker readYourWritesTracker;
+    @Autowired
+    private ReplicaLagMonitor lagMonitor;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    private JdbcTemplate primary;
+    private JdbcTemplate replica;
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        primary = new JdbcTemplate(primaryDataSource);
+        replica = new JdbcTemplate(replicaDataSource);
+        replica.execute("CREATE TABLE IF NOT EXISTS replica_heartbeat (id INT PRIMARY KEY, beat_at BIGINT NOT NULL)");
+        replicateHeartbeat(0);
+        participantRepository.deleteAll();
+        projectRepository.deleteAll();
+        projectId = projectRepository.save(Project.builder()
+                .title("routing")
+                .status(Project.ProjectStatus.RECRUITING)
+                .escrowAmountXrp(1L)
+                .build()).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("쓰기는 primary, readOnly 트랜잭션은 replica 에서 읽음")
+    void readOnlyGoesToReplicaAndWritesToPrimary() {
+        assertThat(primary.queryForObject("SELECT COUNT(*) FROM projects", Long.class)).isEqualTo(1);
+        assertThat(replica.queryForObject("SELECT COUNT(*) FROM projects", Long.class)).isZero();
+
+        assertThat(inTransaction(true, projectRepository::count)).isZero();
+        assertThat(inTransaction(false, projectRepository::count)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최근 쓰기가 있는 key 로 고정하면 readOnly 트랜잭션도 primary 에서 읽음")
+    void readYourWritesPinReadsFromPrimary() {
+        readYourWritesTracker.recordWrite("rRecentWriter");
+
+        long pinned = inTransaction(true, () -> {
+            readYourWritesTracker.pinPrimaryIfRecentWrite("rRecentWriter");
+            return projectRepository.count();
+        });
+        long other = inTransaction(true, () -> {
+            readYourWritesTracker.pinPrimaryIfRecentWrite("rNoWrites");
+            return projectRepository.count();
+        });
+
+        assertThat(pinned).isEqualTo(1);
+        assertThat(other).isZero();
+        assertThat(ReadYourWritesTracker.isPrimaryPinned()).isFalse();
+    }
+
+    @Test
+    @DisplayName("쓰기 요청 응답에 쓰기 시각 쿠키를 내리고, 그 쿠키를 보낸 요청은 이 노드에 기록이 없어도 primary 에서 읽음")
+    void writeCookiePinsReadsOnAnyNode() {
+        MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest(), writeResponse));
+        readYourWritesTracker.recordWrite("rCookieWriter");
+        readYourWritesTracker.recordWrite("project:" + projectId);
+        Cookie issued = writeResponse.getCookie(ReadYourWritesTracker.WRITE_COOKIE);
+        assertThat(issued).isNotNull();
+        assertThat(writeResponse.getHeaders("Set-Cookie")).hasSize(1);
+
+        // 다른 노드처럼 주소별 기록이 없는 key 로 조회
+        MockHttpServletRequest read = new MockHttpServletRequest();
+        read.setCookies(new Cookie(ReadYourWritesTracker.WRITE_COOKIE, issued.getValue()));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(read, new MockHttpServletResponse()));
+        long withCookie = inTransaction(true, () -> {
+            readYourWritesTracker.pinPrimaryIfRecentWrite("rUnknownOnThisNode");
+            return projectRepository.count();
+        });
+
+        MockHttpServletRequest stale = new MockHttpServletRequest();
+        stale.setCookies(new Cookie(ReadYourWritesTracker.WRITE_COOKIE,
+                Long.toString(System.currentTimeMillis() - 60_000)));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(stale, new MockHttpServletResponse()));
+        long staleCookie = inTransaction(true, () -> {
+            readYourWritesTracker.pinPrimaryIfRecentWrite("rUnknownOnThisNode");
+            return projectRepository.count();
+        });
+
+        assertThat(withCookie).isEqualTo(1);
+        assertThat(staleCookie).isZero();
+    }
+
+    @Test
+    @DisplayName("연구별 참여자 목록도 쓰기 직후에는 primary 에서 읽음")
+    void listByProjectHonorsReadYourWrites() {
+        participantRepository.save(Participant.builder()
+                .projectId(projectId)
+                .participantAddress("rListed")
+                .active(true)
+                .build());
+
+        assertThat(participantService.listByProject(projectId)).isEmpty();
+
+        readYourWritesTracker.recordWrite("project:" + projectId);
+
+        assertThat(participantService.listByProject(projectId))
+                .extracting(Participant::getParticipantAddress)
+                .containsExactly("rListed");
+    }
+
+    @Test
+    @DisplayName("복제 지연이 max-lag 를 넘으면 primary 로 읽고, 따라잡으면 다시 replica")
+    void fallsBackToPrimaryWhenReplicaLags() {
+        replicateHeartbeat(10_000);
+        lagMonitor.check();
+        assertThat(lagMonitor.isReplicaUsable()).isFalse();
+        assertThat(inTransaction(true, projectRepository::count)).isEqualTo(1);
+
+        replicateHeartbeat(0);
+        lagMonitor.check();
+        assertThat(lagMonitor.isReplicaUsable()).isTrue();
+        assertThat(inTransaction(true, projectRepository::count)).isZero();
+    }
+
+    /** primary heartbeat 가 lagMillis 만큼 늦게 복제된 상태를 replica 에 기록 */
+    private void replicateHeartbeat(long lagMillis) {
+        long beatAt = System.currentTimeMillis() - lagMillis;
+        if (replica.update("UPDATE replica_heartbeat SET beat_at = ? WHERE id = 1", beatAt) == 0) {
+            replica.update("INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, ?)", beatAt);
+        }
+        lagMonitor.check();
+    }
+
+    private long inTransaction(boolean readOnly, Supplier<Long> work) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        return template.execute(status -> work.get());
+    }
+}
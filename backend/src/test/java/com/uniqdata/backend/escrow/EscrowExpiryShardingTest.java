@@ -0,0 +1,148 @@
+package com.uniqdata.backend.escrow;
+
+import com.uniqdata.backend.cluster.LeaseGuard;
+import com.uniqdata.backend.cluster.ProjectShard;
+import com.uniqdata.backend.core.CoreClient;
+import com.uniqdata.backend.participant.Participant;
+import com.uniqdata.backend.participant.ParticipantEscrowRef;
+import com.uniqdata.backend.participant.ParticipantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 만료 정리 대상 조회의 projectId 샤드 조건 (projectId / rangeSize) % shardCount = shardIndex 와
+ * 샤드별 만료 정리 실행 확인. 모든 샤드 번호로 같은 데이터를 돌려 만료 건이 정확히 한 샤드에만 잡히는지 봄.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:escrow-expiry-sharding-test;DB_CLOSE_DELAY=-1",
+        "escrow.journal.dir=build/test-data/escrow-expiry-sharding-${random.uuid}",
+        "escrow.events.pending-retry-interval=PT1H"
+})
+class EscrowExpiryShardingTest {
+
+    private static final int SHARDS = 4;
+    private static final long RANGE_SIZE = 10;
+    private static final String OWNER = "rEscrowOwnerWallet000000000000000";
+
+    @Autowired
+    private EscrowStatusRepository escrowStatusRepository;
+    @Autowired
+    private ParticipantRepository participantRepository;
+    @Autowired
+    private EscrowExpiryJob expiryJob;
+    @MockBean
+    private CoreClient coreClient;
+
+    /** 만료 정리 대상 참여자 id → offerSequence */
+    private final Map<Long, Long> expired = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        escrowStatusRepository.deleteAll();
+        participantRepository.deleteAll();
+        expired.clear();
+        when(coreClient.cancelEscrow(anyString(), anyLong()))
+                .thenAnswer(invocation -> new CoreClient.CoreEscrowCancelResponse("TX-CANCEL-" + invocation.getArgument(1)));
+
+        Instant past = Instant.now().minusSeconds(3600);
+        Instant future = Instant.now().plusSeconds(3600);
+        long offerSequence = 1;
+        // 구간 경계(9/10, 39/40 ...)와 샤드 한 바퀴(40) 이후 구간까지 걸치도록 projectId 분포
+        for (long projectId = 1; projectId <= 95; projectId += 3) {
+            Participant target = escrow(projectId, "rExpired" + projectId, offerSequence++, true,
+                    EscrowStatus.State.ACTIVE, past);
+            expired.put(target.getId(), target.getOfferSequence());
+            // 대상 아님: CancelAfter 전 / 이미 취소됨 / 이미 철회한 참여자
+            escrow(projectId, "rNotYet" + projectId, offerSequence++, true, EscrowStatus.State.ACTIVE, future);
+            escrow(projectId, "rCancelled" + projectId, offerSequence++, true, EscrowStatus.State.CANCELLED, past);
+            escrow(projectId, "rWithdrawn" + projectId, offerSequence++, false, EscrowStatus.State.ACTIVE, past);
+        }
+    }
+
+    @Test
+    @DisplayName("모든 샤드 번호로 조회하면 만료 건이 정확히 한 샤드에만 잡히고 합치면 전체")
+    void expiredEscrowsArePartitionedAcrossShards() {
+        Map<Long, Integer> shardOf = new HashMap<>();
+        List<Long> duplicates = new ArrayList<>();
+        for (int index = 0; index < SHARDS; index++) {
+            List<ParticipantEscrowRef> refs = escrowStatusRepository.findExpiredActive(Instant.now(),
+                    RANGE_SIZE, SHARDS, index, PageRequest.ofSize(1000));
+            for (ParticipantEscrowRef ref : refs) {
+                assertThat((ref.projectId() / RANGE_SIZE) % SHARDS).isEqualTo(index);
+                if (shardOf.putIfAbsent(ref.id(), index) != null) duplicates.add(ref.id());
+            }
+            assertThat(refs).isNotEmpty();
+        }
+
+        assertThat(duplicates).isEmpty();
+        assertThat(shardOf.keySet()).containsExactlyInAnyOrderElementsOf(expired.keySet());
+    }
+
+    @Test
+    @DisplayName("샤드마다 만료 정리를 두 번 돌려도 만료 건은 정확히 한 번씩 취소·철회")
+    void expiryJobWithdrawsEachExpiredEscrowOnce() {
+        for (int pass = 0; pass < 2; pass++) {
+            for (int index = 0; index < SHARDS; index++) {
+                expiryJob.cancelExpired(new ProjectShard(index, SHARDS, RANGE_SIZE), LeaseGuard.NONE);
+            }
+        }
+
+        for (Long offerSequence : expired.values()) {
+            verify(coreClient, times(1)).cancelEscrow(eq(OWNER), eq(offerSequence));
+        }
+        verify(coreClient, times(expired.size())).cancelEscrow(anyString(), anyLong());
+        Set<Long> expiredIds = expired.keySet();
+        for (Participant participant : participantRepository.findAll()) {
+            boolean target = expiredIds.contains(participant.getId());
+            if (target) {
+                assertThat(participant.isActive()).isFalse();
+                assertThat(participant.getWithdrawnAt()).isNotNull();
+            } else if (participant.getParticipantAddress().startsWith("rWithdrawn")) {
+                assertThat(participant.isActive()).isFalse();
+            } else {
+                assertThat(participant.isActive()).isTrue();
+            }
+        }
+    }
+
+    private Participant escrow(long projectId, String address, long offerSequence, boolean active,
+                               EscrowStatus.State state, Instant cancelAfter) {
+        Participant participant = participantRepository.save(Participant.builder()
+                .projectId(projectId)
+                .participantAddress(address)
+                .escrowOwnerAddress(OWNER)
+                .offerSequence(offerSequence)
+                .escrowTxHash("TX-CREATE-" + offerSequence)
+                .active(active)
+                .build());
+        escrowStatusRepository.save(EscrowStatus.builder()
+                .participantId(participant.getId())
+                .projectId(projectId)
+                .state(state)
+                .cancelAfter(cancelAfter)
+                .updatedAt(Instant.now())
+                .isNew(true)
+                .build());
+        return participant;
+    }
+}
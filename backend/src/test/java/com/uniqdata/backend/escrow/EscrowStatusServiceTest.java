@@ -0,0 +1,170 @@
+package com.uniqdata.backend.escrow;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.uniqdata.backend.participant.Participant;
+import com.uniqdata.backend.participant.ParticipantRepository;
+import com.uniqdata.backend.project.Project;
+import com.uniqdata.backend.project.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:escrow-status-test;DB_CLOSE_DELAY=-1",
+        "escrow.journal.dir=build/test-data/escrow-status-journal",
+        "escrow.events.pending-retry-interval=PT1H"
+})
+@AutoConfigureMockMvc
+class EscrowStatusServiceTest {
+
+    /** Ripple epoch 기준 초. 2000-01-01 + 100초 = 이미 지남 / 2100년경 = 아직 안 지남 */
+    private static final long PAST_CANCEL_AFTER = 100L;
+    private static final long FUTURE_CANCEL_AFTER = 3_155_760_000L;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ObjectMapper objectMapper;
+    @Autowired
+    private EscrowStatusService escrowStatusService;
+    @Autowired
+    private EscrowStatusRepository escrowStatusRepository;
+    @Autowired
+    private PendingEscrowEventRepository pendingEventRepository;
+    @Autowired
+    private ParticipantRepository participantRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    private SimulatedEscrowEventSource source;
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        escrowStatusRepository.deleteAll();
+        pendingEventRepository.deleteAll();
+        participantRepository.deleteAll();
+        projectRepository.deleteAll();
+        projectId = projectRepository.save(Project.builder()
+                .title("escrow-status")
+                .status(Project.ProjectStatus.RECRUITING)
+                .escrowAmountXrp(1L)
+                .build()).getId();
+        source = new SimulatedEscrowEventSource(mockMvc, objectMapper);
+    }
+
+    @Test
+    @DisplayName("같은 이벤트가 두 번 오면 두 번째는 무시")
+    void duplicateEventIsIgnored() throws Exception {
+        enroll("rDuplicate", 1);
+
+        EscrowStatusService.IngestResult result = source.created(1, 10, FUTURE_CANCEL_AFTER)
+                .created(1, 10, FUTURE_CANCEL_AFTER)
+                .flush();
+        EscrowStatusService.IngestResult replay = source.created(1, 10, FUTURE_CANCEL_AFTER).flush();
+
+        assertThat(result.applied()).isEqualTo(1);
+        assertThat(result.ignored()).isEqualTo(1);
+        assertThat(replay.applied()).isZero();
+        assertThat(replay.ignored()).isEqualTo(1);
+        assertThat(stateOf("rDuplicate")).isEqualTo(EscrowStatus.State.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("더 오래된 ledger 의 이벤트가 늦게 와도 최신 상태 유지")
+    void outOfOrderEventDoesNotRegressState() throws Exception {
+        enroll("rOutOfOrder", 2);
+
+        source.finished(2, 20).flush();
+        EscrowStatusService.IngestResult late = source.created(2, 10, FUTURE_CANCEL_AFTER).flush();
+
+        assertThat(late.ignored()).isEqualTo(1);
+        EscrowStatus status = escrowStatusRepository.findAll().get(0);
+        assertThat(status.getState()).isEqualTo(EscrowStatus.State.FINISHED);
+        assertThat(status.getLastLedgerIndex()).isEqualTo(20L);
+    }
+
+    @Test
+    @DisplayName("같은 ledger 의 생성/취소는 종료 상태가 이김 (한 배치, 나눠진 배치 모두)")
+    void terminalStateWinsWithinSameLedger() throws Exception {
+        enroll("rSameBatch", 3);
+        enroll("rSplitBatch", 4);
+
+        source.cancelled(3, 30).created(3, 30, FUTURE_CANCEL_AFTER).flush();
+        source.cancelled(4, 31).flush();
+        EscrowStatusService.IngestResult late = source.created(4, 31, FUTURE_CANCEL_AFTER).flush();
+
+        assertThat(stateOf("rSameBatch")).isEqualTo(EscrowStatus.State.CANCELLED);
+        assertThat(stateOf("rSplitBatch")).isEqualTo(EscrowStatus.State.CANCELLED);
+        assertThat(late.ignored()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("참여자 행보다 먼저 온 이벤트는 보관했다가 참여 커밋 후 재시도로 반영")
+    void unmatchedEventIsDeferredUntilParticipantExists() throws Exception {
+        EscrowStatusService.IngestResult result = source.created(5, 50, PAST_CANCEL_AFTER).flush();
+
+        assertThat(result.deferred()).isEqualTo(1);
+        assertThat(pendingEventRepository.count()).isEqualTo(1);
+        assertThat(escrowStatusService.retryPending().stillPending()).isEqualTo(1);
+
+        enroll("rLateEnroll", 5);
+        EscrowStatusService.RetryResult retry = escrowStatusService.retryPending();
+
+        assertThat(retry.applied()).isEqualTo(1);
+        assertThat(retry.stillPending()).isZero();
+        assertThat(pendingEventRepository.count()).isZero();
+        // cancelAfter 도 CREATED 이벤트에서만 오므로 보관 후 반영돼야 EXPIRED 판정 가능
+        assertThat(stateOf("rLateEnroll")).isEqualTo(EscrowStatus.State.EXPIRED);
+        assertThat(escrowStatusService.cursor()).isEqualTo(50L);
+    }
+
+    @Test
+    @DisplayName("CancelAfter 가 지난 ACTIVE 는 EXPIRED, 이벤트 없는 참여자는 참여자 행 기준")
+    void expiredIsDerivedFromCancelAfter() throws Exception {
+        enroll("rExpired", 6);
+        enroll("rActive", 7);
+        Participant noEvents = enroll("rNoEvents", 8);
+
+        source.created(6, 60, PAST_CANCEL_AFTER).created(7, 61, FUTURE_CANCEL_AFTER).flush();
+
+        assertThat(stateOf("rExpired")).isEqualTo(EscrowStatus.State.EXPIRED);
+        assertThat(stateOf("rActive")).isEqualTo(EscrowStatus.State.ACTIVE);
+        EscrowStatusView derived = viewOf(noEvents.getParticipantAddress());
+        assertThat(derived.state()).isEqualTo(EscrowStatus.State.ACTIVE);
+        assertThat(derived.source()).isEqualTo(EscrowStatusView.Source.PARTICIPANT);
+    }
+
+    private Participant enroll(String address, long offerSequence) {
+        return participantRepository.save(Participant.builder()
+                .projectId(projectId)
+                .participantAddress(address)
+                .escrowOwnerAddress(SimulatedEscrowEventSource.OWNER)
+                .offerSequence(offerSequence)
+                .escrowTxHash("CREATE" + offerSequence)
+                .active(true)
+                .enrolledAt(Instant.now())
+                .build());
+    }
+
+    private EscrowStatus.State stateOf(String address) {
+        return viewOf(address).state();
+    }
+
+    private EscrowStatusView viewOf(String address) {
+        List<EscrowStatusView> views = escrowStatusService.listByProject(projectId);
+        return views.stream()
+                .filter(v -> v.participantAddress().equals(address))
+                .findFirst()
+                .orElseThrow();
+    }
+}
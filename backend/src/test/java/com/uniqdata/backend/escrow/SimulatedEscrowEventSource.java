@@ -0,0 +1,62 @@
+package com.uniqdata.backend.escrow;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Core 의 SimulatedEscrowEventSource + EscrowEventsService 배치 전송을 흉내내는 테스트용 이벤트 공급원.
+ * emit() 으로 쌓고 flush() 때 Core 와 같은 형태({"events":[...]})로 수집 API 에 POST.
+ */
+class SimulatedEscrowEventSource {
+
+    static final String OWNER = "rEscrowOwnerWallet000000000000000";
+
+    private final MockMvc mockMvc;
+    private final ObjectMapper objectMapper;
+    private final List<EscrowLedgerEvent> buffer = new ArrayList<>();
+
+    SimulatedEscrowEventSource(MockMvc mockMvc, ObjectMapper objectMapper) {
+        this.mockMvc = mockMvc;
+        this.objectMapper = objectMapper;
+    }
+
+    SimulatedEscrowEventSource created(long offerSequence, long ledgerIndex, Long cancelAfterRippleSeconds) {
+        return emit(new EscrowLedgerEvent(EscrowLedgerEvent.Type.CREATED, "CREATE" + offerSequence, OWNER,
+                offerSequence, ledgerIndex, null, null, "1000000", null, cancelAfterRippleSeconds));
+    }
+
+    SimulatedEscrowEventSource finished(long offerSequence, long ledgerIndex) {
+        return emit(new EscrowLedgerEvent(EscrowLedgerEvent.Type.FINISHED, "FINISH" + offerSequence, OWNER,
+                offerSequence, ledgerIndex, null, null, null, null, null));
+    }
+
+    SimulatedEscrowEventSource cancelled(long offerSequence, long ledgerIndex) {
+        return emit(new EscrowLedgerEvent(EscrowLedgerEvent.Type.CANCELLED, "CANCEL" + offerSequence, OWNER,
+                offerSequence, ledgerIndex, null, null, null, null, null));
+    }
+
+    SimulatedEscrowEventSource emit(EscrowLedgerEvent event) {
+        buffer.add(event);
+        return this;
+    }
+
+    /** 버퍼를 한 배치로 전송하고 수집 결과(IngestResult) 반환 */
+    EscrowStatusService.IngestResult flush() throws Exception {
+        String body = objectMapper.writeValueAsString(Map.of("events", buffer));
+        buffer.clear();
+        String response = mockMvc.perform(post("/api/v2/internal/escrow-events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(response, EscrowStatusService.IngestResult.class);
+    }
+}
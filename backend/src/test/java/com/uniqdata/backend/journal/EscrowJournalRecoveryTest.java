@@ -0,0 +1,201 @@
+package com.uniqdata.backend.journal;
+
+import com.uniqdata.backend.core.CoreClient;
+import com.uniqdata.backend.core.CoreClientException;
+import com.uniqdata.backend.participant.Participant;
+import com.uniqdata.backend.participant.ParticipantRepository;
+import com.uniqdata.backend.project.Project;
+import com.uniqdata.backend.project.ProjectRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:journal-recovery-test;DB_CLOSE_DELAY=-1",
+        "escrow.journal.dir=build/test-data/journal-recovery-${random.uuid}",
+        "escrow.journal.recover-interval=PT1H"
+})
+class EscrowJournalRecoveryTest {
+
+    private static final String OWNER = "rEscrowOwnerWallet000000000000000";
+
+    @Autowired
+    private EscrowJournal journal;
+    @Autowired
+    private EscrowJournalRecovery recovery;
+    @Autowired
+    private ParticipantRepository participantRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @MockBean
+    private CoreClient coreClient;
+
+    private Long projectId;
+
+    @BeforeEach
+    void setUp() {
+        reset(coreClient);
+        journal.pendingBefore(Instant.now().plusSeconds(3600)).forEach(op -> journal.checkpoint(op.intent().id()));
+        participantRepository.deleteAll();
+        projectRepository.deleteAll();
+        projectId = projectRepository.save(Project.builder()
+                .title("journal-recovery")
+                .status(Project.ProjectStatus.RECRUITING)
+                .escrowAmountXrp(1L)
+                .build()).getId();
+    }
+
+    @Test
+    @DisplayName("결과 미기록 + 원장에 에스크로 있음 → EscrowCreate 조회로 OfferSequence 복원해 참여자 생성")
+    void rebuildsParticipantFromLedgerEscrow() {
+        long id = journal.logCreateIntent(projectId, "rCrashed", 1);
+        ledgerContains(escrow("TX-CRASHED", "rCrashed"));
+        when(coreClient.getEscrowCreateTx("TX-CRASHED")).thenReturn(createTx("TX-CRASHED", 42L, true));
+
+        recoverAll();
+
+        Participant rebuilt = participantRepository.findByProjectIdAndParticipantAddress(projectId, "rCrashed").orElseThrow();
+        assertThat(rebuilt.getOfferSequence()).isEqualTo(42L);
+        assertThat(rebuilt.getEscrowOwnerAddress()).isEqualTo(OWNER);
+        assertThat(rebuilt.getEscrowTxHash()).isEqualTo("TX-CRASHED");
+        assertThat(pendingIds()).doesNotContain(id);
+    }
+
+    @Test
+    @DisplayName("EscrowCreate 조회 실패나 후보가 여러 건이면 CHECKPOINT 하지 않고 보류")
+    void keepsEntryPendingWhenUnresolved() {
+        long lookupFails = journal.logCreateIntent(projectId, "rLookupFails", 1);
+        long ambiguous = journal.logCreateIntent(projectId, "rAmbiguous", 1);
+        ledgerContains(escrow("TX-LOOKUP", "rLookupFails"), escrow("TX-A1", "rAmbiguous"), escrow("TX-A2", "rAmbiguous"));
+        when(coreClient.getEscrowCreateTx("TX-LOOKUP")).thenThrow(new CoreClientException("down"));
+
+        recoverAll();
+
+        assertThat(pendingIds()).contains(lookupFails, ambiguous);
+        assertThat(participantRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("성공 기록이 있는데 같은 주소 참여자가 다른 에스크로로 존재 → 중복 에스크로 취소")
+    void cancelsDuplicateEscrowOfRolledBackEnroll() {
+        saveParticipant("rRace", "TX-WINNER", 1L);
+        long id = journal.logCreateIntent(projectId, "rRace", 1);
+        journal.logSucceeded(id, OWNER, 2L, "TX-LOSER");
+        ledgerContains(escrow("TX-WINNER", "rRace"), escrow("TX-LOSER", "rRace"));
+        when(coreClient.cancelEscrow(OWNER, 2L)).thenReturn(new CoreClient.CoreEscrowCancelResponse("CANCEL-2"));
+
+        recoverAll();
+
+        verify(coreClient).cancelEscrow(OWNER, 2L);
+        assertThat(pendingIds()).doesNotContain(id);
+        assertThat(participantRepository.findAll()).extracting(Participant::getEscrowTxHash).containsExactly("TX-WINNER");
+    }
+
+    @Test
+    @DisplayName("중복 에스크로 취소가 실패하면(CancelAfter 전 등) 보류 후 재시도")
+    void keepsDuplicatePendingWhenCancelFails() {
+        saveParticipant("rRaceRetry", "TX-WINNER-2", 1L);
+        long id = journal.logCreateIntent(projectId, "rRaceRetry", 1);
+        journal.logSucceeded(id, OWNER, 3L, "TX-LOSER-2");
+        ledgerContains(escrow("TX-WINNER-2", "rRaceRetry"), escrow("TX-LOSER-2", "rRaceRetry"));
+        when(coreClient.cancelEscrow(anyString(), anyLong())).thenThrow(new CoreClientException("tecNO_PERMISSION"));
+
+        recoverAll();
+
+        assertThat(pendingIds()).contains(id);
+    }
+
+    @Test
+    @DisplayName("성공 기록의 txHash 가 기존 참여자와 같으면 취소 없이 CHECKPOINT")
+    void checkpointsWhenExistingParticipantMatches() {
+        saveParticipant("rCommitted", "TX-SAME", 5L);
+        long id = journal.logCreateIntent(projectId, "rCommitted", 1);
+        journal.logSucceeded(id, OWNER, 5L, "TX-SAME");
+
+        recoverAll();
+
+        verify(coreClient, never()).cancelEscrow(anyString(), anyLong());
+        assertThat(pendingIds()).doesNotContain(id);
+    }
+
+    @Test
+    @DisplayName("성공한 CREATE 인데 프로젝트가 없으면 CHECKPOINT 하지 않고 보류 (에스크로가 저널에서 사라지지 않음)")
+    void keepsSucceededCreatePendingWhenProjectMissing() {
+        long missingProject = projectId + 10_000;
+        long id = journal.logCreateIntent(missingProject, "rOrphanProject", 1);
+        journal.logSucceeded(id, OWNER, 9L, "TX-NO-PROJECT");
+
+        recoverAll();
+
+        assertThat(pendingIds()).contains(id);
+        assertThat(participantRepository.findByProjectIdAndParticipantAddress(missingProject, "rOrphanProject")).isEmpty();
+        verify(coreClient, never()).cancelEscrow(anyString(), anyLong());
+    }
+
+    @Test
+    @DisplayName("FAILED CREATE 는 원장 전체 조회 1회에서 에스크로가 없으면 종료되어 다음 주기에 다시 조회하지 않음")
+    void retiresFailedCreateAfterOneFullScan() {
+        long id = journal.logCreateIntent(projectId, "rFailedCreate", 1);
+        journal.logFailed(id);
+        when(coreClient.getEscrowStatusPage(any(), anyInt(), any()))
+                .thenReturn(new CoreClient.CoreEscrowStatusPage(OWNER, 100L, List.of(escrow("TX-OTHER", "rSomeoneElse")), "M1"))
+                .thenReturn(new CoreClient.CoreEscrowStatusPage(OWNER, 100L, List.of(), null));
+
+        recoverAll();
+        recoverAll();
+
+        assertThat(pendingIds()).doesNotContain(id);
+        verify(coreClient, times(2)).getEscrowStatusPage(any(), anyInt(), any());
+        assertThat(participantRepository.findByProjectIdAndParticipantAddress(projectId, "rFailedCreate")).isEmpty();
+    }
+
+    private void recoverAll() {
+        recovery.recover(Instant.now().plusSeconds(1));
+    }
+
+    private List<Long> pendingIds() {
+        return journal.pendingBefore(Instant.now().plusSeconds(3600)).stream().map(op -> op.intent().id()).toList();
+    }
+
+    private void saveParticipant(String address, String txHash, long offerSequence) {
+        participantRepository.save(Participant.builder()
+                .projectId(projectId)
+                .participantAddress(address)
+                .escrowOwnerAddress(OWNER)
+                .offerSequence(offerSequence)
+                .escrowTxHash(txHash)
+                .active(true)
+                .build());
+    }
+
+    private void ledgerContains(CoreClient.CoreEscrowStatusItem... items) {
+        when(coreClient.getEscrowStatusPage(any(), anyInt(), any()))
+                .thenReturn(new CoreClient.CoreEscrowStatusPage(OWNER, 100L, List.of(items), null));
+    }
+
+    private CoreClient.CoreEscrowStatusItem escrow(String txHash, String destination) {
+        return new CoreClient.CoreEscrowStatusItem(txHash, OWNER, destination, projectId, "1000000", null, null);
+    }
+
+    private CoreClient.CoreEscrowCreateTx createTx(String txHash, long offerSequence, boolean validated) {
+        return new CoreClient.CoreEscrowCreateTx(txHash, OWNER, offerSequence, null, projectId, "1000000", 90L, validated);
+    }
+}
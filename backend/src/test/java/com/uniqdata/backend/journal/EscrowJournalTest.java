@@ -0,0 +1,232 @@
+package com.uniqdata.backend.journal;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 저널 파일 자체의 장애 내성. 스프링 없이 저널을 열고 닫으며 재기동을 흉내냄.
+ */
+class EscrowJournalTest {
+
+    private static final int RECORD_HEADER = 8;
+
+    @TempDir
+    Path dir;
+
+    private final List<EscrowJournal> opened = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        opened.forEach(EscrowJournal::close);
+    }
+
+    @Test
+    @DisplayName("닫았다 다시 열면 CHECKPOINT 안 된 항목과 결과가 재생됨")
+    void replaysPendingEntriesAfterReopen() throws IOException {
+        EscrowJournal journal = open(4096);
+        long succeeded = journal.logCreateIntent(1L, "rSucceeded", 10);
+        journal.logSucceeded(succeeded, "rOwner", 7L, "TX-7");
+        long failed = journal.logCreateIntent(1L, "rFailed", 10);
+        journal.logFailed(failed);
+        long unknown = journal.logCancelIntent(2L, "rCancel", "rOwner", 3L, "TX-3");
+        long done = journal.logCreateIntent(3L, "rDone", 10);
+        journal.checkpoint(done);
+        close(journal);
+
+        Map<Long, PendingEscrowOperation> pending = pendingById(open(4096));
+
+        assertThat(pending.keySet()).containsExactlyInAnyOrder(succeeded, failed, unknown);
+        assertThat(pending.get(succeeded).succeeded()).isTrue();
+        assertThat(pending.get(succeeded).outcome().offerSequence()).isEqualTo(7L);
+        assertThat(pending.get(succeeded).outcome().txHash()).isEqualTo("TX-7");
+        assertThat(pending.get(failed).outcome().status()).isEqualTo(EscrowJournalEntry.Status.FAILED);
+        assertThat(pending.get(unknown).outcome()).isNull();
+        assertThat(pending.get(unknown).intent().operation()).isEqualTo(EscrowJournalEntry.Operation.CANCEL);
+        assertThat(pending.get(unknown).intent().txHash()).isEqualTo("TX-3");
+    }
+
+    @Test
+    @DisplayName("CRC 가 맞지 않는 마지막 레코드에서 재생을 멈추고, 이후 기록은 새 세그먼트로 이어짐")
+    void stopsAtCrcMismatchedTail() throws IOException {
+        EscrowJournal journal = open(4096);
+        long first = journal.logCreateIntent(1L, "rFirst", 10);
+        long second = journal.logCreateIntent(1L, "rSecond", 10);
+        journal.logCreateIntent(1L, "rCorrupted", 10);
+        close(journal);
+
+        Path segment = onlySegment();
+        long third = recordOffset(segment, 2);
+        flipByte(segment, third + RECORD_HEADER + 5);
+
+        EscrowJournal reopened = open(4096);
+        assertThat(pendingById(reopened).keySet()).containsExactlyInAnyOrder(first, second);
+        long next = reopened.logCreateIntent(1L, "rAfterCrash", 10);
+        close(reopened);
+
+        assertThat(pendingById(open(4096)).keySet()).containsExactlyInAnyOrder(first, second, next);
+    }
+
+    @Test
+    @DisplayName("헤더만 쓰이고 본문이 비었거나 길이가 파일 밖을 가리키는 찢어진 레코드에서 멈춤")
+    void stopsAtTornTail() throws IOException {
+        EscrowJournal journal = open(4096);
+        long first = journal.logCreateIntent(1L, "rFirst", 10);
+        journal.logCreateIntent(1L, "rTorn", 10);
+        close(journal);
+
+        Path segment = onlySegment();
+        long torn = recordOffset(segment, 1);
+        int length = readInt(segment, torn);
+        write(segment, torn + RECORD_HEADER, ByteBuffer.allocate(length));
+        assertThat(pendingById(open(4096)).keySet()).containsExactly(first);
+
+        write(segment, torn, ByteBuffer.allocate(4).putInt(0, Integer.MAX_VALUE));
+        assertThat(pendingById(open(4096)).keySet()).containsExactly(first);
+    }
+
+    @Test
+    @DisplayName("세그먼트가 여러 번 바뀌고 compact 해도 CHECKPOINT 안 된 항목은 모두 남음")
+    void segmentRollAndCompactKeepPendingEntries() throws IOException {
+        EscrowJournal journal = open(256);
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            ids.add(journal.logCreateIntent(1L, "rRoll" + i, 10));
+        }
+        List<Long> keep = List.of(ids.get(6), ids.get(15), ids.get(29));
+        for (long id : ids) {
+            if (!keep.contains(id)) journal.checkpoint(id);
+        }
+        journal.compact();
+
+        // 가장 오래된 미완료 항목(keep[0])의 세그먼트부터만 남고, 그 앞 세그먼트는 정리됨
+        Map<Long, PendingEscrowOperation> pending = pendingById(journal);
+        long oldestKept = pending.get(keep.get(0)).segment();
+        long newest = pending.get(keep.get(2)).segment();
+        assertThat(oldestKept).isGreaterThan(1);
+        assertThat(newest).isGreaterThan(oldestKept + 3);
+        assertThat(segments()).first().asString().contains(String.format("%020d", oldestKept));
+        assertThat(pending.keySet()).containsExactlyInAnyOrderElementsOf(keep);
+        close(journal);
+
+        EscrowJournal reopened = open(256);
+        assertThat(pendingById(reopened).keySet()).containsExactlyInAnyOrderElementsOf(keep);
+        keep.forEach(reopened::checkpoint);
+        close(reopened);
+
+        assertThat(pendingById(open(256))).isEmpty();
+        assertThat(segments()).hasSizeLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("재기동 후 id 가 이어짐 (모든 항목이 CHECKPOINT 되어 세그먼트가 정리된 뒤에도)")
+    void nextIdContinuesAfterRestart() throws IOException {
+        EscrowJournal journal = open(4096);
+        long last = 0;
+        for (int i = 0; i < 3; i++) {
+            last = journal.logCreateIntent(1L, "rId" + i, 10);
+            journal.checkpoint(last);
+        }
+        close(journal);
+
+        EscrowJournal second = open(4096);
+        long afterFirstRestart = second.logCreateIntent(1L, "rIdNext", 10);
+        second.checkpoint(afterFirstRestart);
+        close(second);
+        close(open(4096));
+
+        long afterCompactedRestarts = open(4096).logCreateIntent(1L, "rIdLater", 10);
+
+        assertThat(afterFirstRestart).isEqualTo(last + 1);
+        assertThat(afterCompactedRestarts).isEqualTo(afterFirstRestart + 1);
+    }
+
+    private EscrowJournal open(int segmentSize) throws IOException {
+        EscrowJournal journal = new EscrowJournal();
+        ReflectionTestUtils.setField(journal, "enabled", true);
+        ReflectionTestUtils.setField(journal, "dir", dir);
+        ReflectionTestUtils.setField(journal, "segmentSize", segmentSize);
+        ReflectionTestUtils.setField(journal, "flushInterval", Duration.ofMillis(5));
+        ReflectionTestUtils.setField(journal, "awaitFsync", false);
+        journal.open();
+        opened.add(journal);
+        return journal;
+    }
+
+    private void close(EscrowJournal journal) {
+        journal.close();
+        opened.remove(journal);
+    }
+
+    private static Map<Long, PendingEscrowOperation> pendingById(EscrowJournal journal) {
+        return journal.pendingBefore(Instant.now().plusSeconds(60)).stream()
+                .collect(Collectors.toMap(op -> op.intent().id(), Function.identity()));
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(p -> p.getFileName().toString().endsWith(".seg")).sorted().toList();
+        }
+    }
+
+    /** 기록이 있는 유일한 세그먼트 (재기동 때 새로 연 빈 세그먼트 제외) */
+    private Path onlySegment() throws IOException {
+        List<Path> written = new ArrayList<>();
+        for (Path segment : segments()) {
+            if (readInt(segment, 0) > 0) written.add(segment);
+        }
+        assertThat(written).hasSize(1);
+        return written.get(0);
+    }
+
+    /** index 번째 레코드의 시작 위치 */
+    private static long recordOffset(Path segment, int index) throws IOException {
+        long offset = 0;
+        for (int i = 0; i < index; i++) {
+            offset += RECORD_HEADER + readInt(segment, offset);
+        }
+        return offset;
+    }
+
+    private static int readInt(Path segment, long offset) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ)) {
+            ByteBuffer buf = ByteBuffer.allocate(4);
+            channel.read(buf, offset);
+            return buf.getInt(0);
+        }
+    }
+
+    private static void flipByte(Path segment, long offset) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer buf = ByteBuffer.allocate(1);
+            channel.read(buf, offset);
+            buf.put(0, (byte) (buf.get(0) ^ 0x5A));
+            channel.write(buf.rewind(), offset);
+        }
+    }
+
+    private static void write(Path segment, long offset, ByteBuffer bytes) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(bytes.rewind(), offset);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.uniqdata.backend.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 하위 appender 를 막아 큐를 채운 뒤, 버린 수가 실제로 큐에 들어가지 못한 이벤트 수와 같은지 확인.
+ */
+class CountingAsyncAppenderTest {
+
+    private final LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+    private final CountDownLatch firstReceived = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final AtomicInteger delivered = new AtomicInteger();
+    private CountingAsyncAppender appender;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (appender != null) appender.stop();
+    }
+
+    @Test
+    @DisplayName("neverBlock 큐가 가득 차면 offer 에 실패한 이벤트만 버린 수로 셈")
+    void countsEventsRejectedByFullQueue() throws Exception {
+        appender = start(2, 0);
+
+        appender.doAppend(event(Level.WARN));
+        assertThat(firstReceived.await(5, TimeUnit.SECONDS)).isTrue();
+        // 작업 스레드는 첫 이벤트에서 막혀 있음: 큐 2칸만 들어가고 나머지 3건은 버림
+        for (int i = 0; i < 5; i++) {
+            appender.doAppend(event(Level.WARN));
+        }
+
+        assertThat(dropped()).isEqualTo(3);
+        release.countDown();
+        appender.stop();
+        assertThat(delivered).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("남은 자리가 임계치 아래면 INFO 이하만 버리고 WARN 은 적재")
+    void countsInfoDiscardedBelowThreshold() throws Exception {
+        appender = start(4, 3);
+
+        appender.doAppend(event(Level.WARN));
+        assertThat(firstReceived.await(5, TimeUnit.SECONDS)).isTrue();
+        appender.doAppend(event(Level.WARN));   // 남은 자리 4 → 적재
+        appender.doAppend(event(Level.INFO));   // 남은 자리 3 → 적재
+        appender.doAppend(event(Level.INFO));   // 남은 자리 2 < 3 → 버림
+        appender.doAppend(event(Level.WARN));   // WARN 은 적재
+
+        assertThat(dropped()).isEqualTo(1);
+        release.countDown();
+        appender.stop();
+        assertThat(delivered).hasValue(4);
+    }
+
+    private CountingAsyncAppender start(int queueSize, int discardingThreshold) {
+        AppenderBase<ILoggingEvent> blocking = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                delivered.incrementAndGet();
+                firstReceived.countDown();
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        blocking.setContext(context);
+        blocking.start();
+        CountingAsyncAppender async = new CountingAsyncAppender();
+        async.setContext(context);
+        async.setName("counting-test-" + UUID.randomUUID());
+        async.setQueueSize(queueSize);
+        async.setDiscardingThreshold(discardingThreshold);
+        async.setNeverBlock(true);
+        async.addAppender(blocking);
+        async.start();
+        return async;
+    }
+
+    private ILoggingEvent event(Level level) {
+        Logger logger = context.getLogger(CountingAsyncAppenderTest.class);
+        return new LoggingEvent(Logger.class.getName(), logger, level, "message", null, null);
+    }
+
+    private long dropped() {
+        return CountingAsyncAppender.droppedCounts().get(appender.getName());
+    }
+}
@@ -0,0 +1,122 @@
+package com.uniqdata.backend.logging;
+
+import ch.qos.logback.classic.Level;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 꺼진 레벨(INFO 를 WARN 으로 거름)에서 로그 호출 1회당 할당 바이트 측정 (ThreadMXBean.getThreadAllocatedBytes).
+ * ParticipantService/CoreClient 의 로그 형태(projectId, 주소, amountXrp)로 세 가지를 비교:
+ * - eager: 마스킹 전 방식 (substring 을 호출 전에 생성)
+ * - wrapper: MaskedAddress.of 만 사용 (래퍼 + 가변인자 배열 + long boxing)
+ * - guarded: 레벨 가드 안에서 호출 (현재 방식)
+ * 요청 스레드 여러 개가 동시에 로그를 호출하는 상황으로 THREADS 개 스레드에서 함께 돌리고,
+ * 스레드마다 자기 할당량을 재서 가장 많이 할당한 스레드 기준으로 판정. JIT 컴파일 후 값을 보도록 워밍업 뒤 측정.
+ */
+class FilteredLogAllocationBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(FilteredLogAllocationBenchmark.class);
+    private static final int ITERATIONS = 1_000_000;
+    private static final int THREADS = 4;
+
+    private final Long projectId = 7L;
+    private final String address = "rHb9CJAWyB4rj91VRWn96DkukG4bwdtyTh";
+    private final long amountXrp = 123_456L;
+
+    private com.sun.management.ThreadMXBean threads;
+    private Level previousLevel;
+
+    @BeforeEach
+    void setUp() {
+        assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+        ch.qos.logback.classic.Logger logger = (ch.qos.logback.classic.Logger) log;
+        previousLevel = logger.getLevel();
+        logger.setLevel(Level.WARN);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (threads != null) {
+            ((ch.qos.logback.classic.Logger) log).setLevel(previousLevel);
+        }
+    }
+
+    @Test
+    @DisplayName("꺼진 레벨 로그 호출 1회당 할당: 레벨 가드 안에서는 0")
+    void filteredLogCallAllocatesNothingWhenGuarded() throws Exception {
+        double eager = bytesPerCall(this::eager);
+        double wrapper = bytesPerCall(this::wrapper);
+        double guarded = bytesPerCall(this::guarded);
+
+        assertThat(eager).as("eager bytes/call").isGreaterThan(wrapper);
+        assertThat(wrapper).as("wrapper bytes/call").isGreaterThan(guarded);
+        assertThat(guarded).as("guarded bytes/call").isLessThan(1.0);
+    }
+
+    /** THREADS 개 스레드에서 동시에 실행한 뒤, 가장 많이 할당한 스레드의 호출 1회당 할당 바이트 */
+    private double bytesPerCall(Runnable calls) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CyclicBarrier start = new CyclicBarrier(THREADS);
+        try {
+            List<Future<Long>> results = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(() -> {
+                    long thread = Thread.currentThread().getId();
+                    calls.run(); // 워밍업 (JIT 컴파일)
+                    start.await();
+                    long before = threads.getThreadAllocatedBytes(thread);
+                    calls.run();
+                    return threads.getThreadAllocatedBytes(thread) - before;
+                }));
+            }
+            long worst = 0;
+            for (Future<Long> result : results) {
+                worst = Math.max(worst, result.get(2, TimeUnit.MINUTES));
+            }
+            return (double) worst / ITERATIONS;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void eager() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            log.info("[참여신청] Core createEscrow 호출 | projectId={} | addressForCore={}... | amountXrp={}",
+                    projectId, address.substring(0, 12), amountXrp);
+        }
+    }
+
+    private void wrapper() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            log.info("[참여신청] Core createEscrow 호출 | projectId={} | addressForCore={} | amountXrp={}",
+                    projectId, MaskedAddress.of(address), amountXrp);
+        }
+    }
+
+    private void guarded() {
+        for (int i = 0; i < ITERATIONS; i++) {
+            if (log.isInfoEnabled()) {
+                log.info("[참여신청] Core createEscrow 호출 | projectId={} | addressForCore={} | amountXrp={}",
+                        projectId, MaskedAddress.of(address), amountXrp);
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.uniqdata.backend.participant;
+
+import com.uniqdata.backend.core.CoreClient;
+import com.uniqdata.backend.project.Project;
+import com.uniqdata.backend.project.ProjectRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:participant-lookup-test;DB_CLOSE_DELAY=-1",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "escrow.journal.dir=build/test-data/participant-lookup-${random.uuid}"
+})
+@AutoConfigureMockMvc
+class ParticipantLookupTest {
+
+    private static final String OWNER = "rEscrowOwnerWallet000000000000000";
+    private static final AtomicLong SEQUENCE = new AtomicLong(100);
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private ParticipantService participantService;
+    @Autowired
+    private ParticipantRepository participantRepository;
+    @Autowired
+    private ProjectRepository projectRepository;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @MockBean
+    private CoreClient coreClient;
+
+    private Long firstProject;
+    private Long secondProject;
+
+    @BeforeEach
+    void setUp() {
+        participantRepository.deleteAll();
+        projectRepository.deleteAll();
+        firstProject = project("first").getId();
+        secondProject = project("second").getId();
+        when(coreClient.createEscrow(anyString(), anyString(), anyLong())).thenAnswer(inv -> {
+            long sequence = SEQUENCE.incrementAndGet();
+            return new CoreClient.CoreEscrowCreateResponse("TX-" + sequence, null, OWNER, sequence);
+        });
+        when(coreClient.cancelEscrow(eq(OWNER), anyLong()))
+                .thenAnswer(inv -> new CoreClient.CoreEscrowCancelResponse("CANCEL-" + inv.getArgument(1)));
+    }
+
+    @Test
+    @DisplayName("주소별 참여 연구 목록: 다른 주소 제외, 최근 참여 순")
+    void listsProjectsOfAddress() throws Exception {
+        participantService.enroll(firstProject, "rLookupWallet");
+        participantService.enroll(secondProject, "rLookupWallet");
+        participantService.enroll(firstProject, "rOtherWallet");
+
+        mockMvc.perform(get("/api/v2/participants/{address}/projects", "rLookupWallet"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(2)))
+                .andExpect(jsonPath("$[0].title").value("second"))
+                .andExpect(jsonPath("$[0].active").value(true))
+                .andExpect(jsonPath("$[1].title").value("first"));
+        mockMvc.perform(get("/api/v2/participants/{address}/projects", "rNobody"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(0)));
+    }
+
+    @Test
+    @DisplayName("연구 정보는 조인 쿼리 1회로 읽고, 두 번째 조회는 캐시에서 반환")
+    void loadsWithSingleJoinQueryThenCache() {
+        participantService.enroll(firstProject, "rJoinWallet");
+        participantService.enroll(secondProject, "rJoinWallet");
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        assertThat(participantService.listProjectsByAddress("rJoinWallet")).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+
+        statistics.clear();
+        assertThat(participantService.listProjectsByAddress("rJoinWallet")).hasSize(2);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("참여/철회 커밋 후 캐시 무효화 → 다음 조회에 반영")
+    void enrollAndWithdrawInvalidateCache() {
+        participantService.enroll(firstProject, "rCachedWallet");
+        assertThat(participantService.listProjectsByAddress("rCachedWallet")).hasSize(1);
+
+        participantService.enroll(secondProject, "rCachedWallet");
+        assertThat(participantService.listProjectsByAddress("rCachedWallet"))
+                .extracting(ParticipantProjectSummary::title).containsExactly("second", "first");
+
+        participantService.withdraw(firstProject, "rCachedWallet");
+        assertThat(participantService.listProjectsByAddress("rCachedWallet"))
+                .filteredOn(summary -> summary.projectId().equals(firstProject))
+                .singleElement()
+                .satisfies(summary -> {
+                    assertThat(summary.active()).isFalse();
+                    assertThat(summary.withdrawnAt()).isNotNull();
+                });
+    }
+
+    private Project project(String title) {
+        return projectRepository.save(Project.builder()
+                .title(title)
+                .status(Project.ProjectStatus.RECRUITING)
+                .escrowAmountXrp(1L)
+                .build());
+    }
+}
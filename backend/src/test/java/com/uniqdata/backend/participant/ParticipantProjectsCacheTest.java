@@ -0,0 +1,76 @@
+package com.uniqdata.backend.participant;
+
+import com.uniqdata.backend.project.Project;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParticipantProjectsCacheTest {
+
+    private static final String ADDRESS = "rCacheAddress000000000000000000000";
+
+    private ParticipantProjectsCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ParticipantProjectsCache();
+        ReflectionTestUtils.setField(cache, "maxEntries", 2);
+        ReflectionTestUtils.setField(cache, "ttl", Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("무효화보다 먼저 시작된 조회는 무효화 표시를 덮지 않음")
+    void rejectsReadStartedBeforeInvalidation() {
+        long readA = cache.startRead();
+        cache.invalidate(ADDRESS);
+        cache.put(ADDRESS, List.of(summary("stale")), readA);
+
+        assertThat(cache.get(ADDRESS)).isNull();
+    }
+
+    @Test
+    @DisplayName("A 조회 시작 → 무효화 → B 조회·저장 → A 저장: B 의 최신 값 유지")
+    void olderReadDoesNotOverwriteNewerValue() {
+        long readA = cache.startRead();
+        cache.invalidate(ADDRESS);
+        long readB = cache.startRead();
+        cache.put(ADDRESS, List.of(summary("fresh")), readB);
+        cache.put(ADDRESS, List.of(summary("stale")), readA);
+
+        assertThat(cache.get(ADDRESS)).extracting(ParticipantProjectSummary::title).containsExactly("fresh");
+    }
+
+    @Test
+    @DisplayName("더 나중에 시작된 조회는 기존 값을 갱신")
+    void newerReadReplacesValue() {
+        cache.put(ADDRESS, List.of(summary("old")), cache.startRead());
+        cache.put(ADDRESS, List.of(summary("new")), cache.startRead());
+
+        assertThat(cache.get(ADDRESS)).extracting(ParticipantProjectSummary::title).containsExactly("new");
+    }
+
+    @Test
+    @DisplayName("TTL 이 지난 값과 LRU 상한을 넘은 주소는 반환하지 않음")
+    void expiresByTtlAndEvictsEldest() {
+        ReflectionTestUtils.setField(cache, "ttl", Duration.ZERO);
+        cache.put(ADDRESS, List.of(summary("expired")), cache.startRead() - 1);
+        assertThat(cache.get(ADDRESS)).isNull();
+
+        ReflectionTestUtils.setField(cache, "ttl", Duration.ofMinutes(1));
+        cache.put("rFirst", List.of(summary("first")), cache.startRead());
+        cache.put("rSecond", List.of(summary("second")), cache.startRead());
+        cache.put("rThird", List.of(summary("third")), cache.startRead());
+        assertThat(cache.get("rFirst")).isNull();
+        assertThat(cache.get("rThird")).isNotNull();
+    }
+
+    private static ParticipantProjectSummary summary(String title) {
+        return new ParticipantProjectSummary(1L, title, Project.ProjectStatus.RECRUITING, 10L, 1L, true, null, null);
+    }
+}
@@ -0,0 +1,103 @@
+package com.uniqdata.backend.project;
+
+import com.uniqdata.backend.BackendApplication;
+import org.hibernate.SessionEventListener;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * ProjectService.createAll 을 hibernate.jdbc.batch_size=1 과 50 으로 각각 띄운 컨텍스트에서 실행해 비교.
+ * - JDBC 왕복: Hibernate 세션 이벤트로 단건 실행 + 배치 실행 횟수를 셈 (시퀀스 조회 포함). 환경과 무관하게 재현됨
+ * - 시간: 워밍업 후 측정한 호출당 중앙값 (ms). 로컬 in-memory H2 라 네트워크 왕복이 있는 실제 DB 보다 차이가 작게 나옴.
+ *   실행 환경마다 흔들리므로 배치 쪽이 크게 느려지지 않았는지만 판정
+ */
+class ProjectBulkInsertBenchmark {
+
+    private static final int PROJECTS_PER_CALL = 1000;
+    private static final int WARMUP_CALLS = 5;
+    private static final int MEASURED_CALLS = 9;
+
+    @Test
+    @DisplayName("createAll 1000건: batch_size=50 이 batch_size=1 보다 JDBC 왕복이 훨씬 적음")
+    void batchedInsertsUseFewerRoundTrips() {
+        Result unbatched = measure(1);
+        Result batched = measure(50);
+
+        // batch_size=1: INSERT 1000 + 시퀀스 20 / batch_size=50: 배치 20 + 시퀀스 20
+        assertThat(unbatched.roundTrips()).as("batch_size=1 roundTrips").isGreaterThanOrEqualTo(PROJECTS_PER_CALL);
+        assertThat(batched.roundTrips()).as("batch_size=50 roundTrips").isLessThanOrEqualTo(PROJECTS_PER_CALL / 50 * 2 + 2);
+        assertThat(batched.medianMillis())
+                .as("batch_size=50 medianMs (batch_size=1: %.1f)", unbatched.medianMillis())
+                .isLessThan(unbatched.medianMillis() * 2);
+    }
+
+    private record Result(long roundTrips, double medianMillis) {
+    }
+
+    private Result measure(int batchSize) {
+        String db = "bulk-insert-" + batchSize + "-" + UUID.randomUUID();
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BackendApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:" + db + ";DB_CLOSE_DELAY=-1",
+                        "--spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                        "--spring.jpa.properties.hibernate.session.events.auto=" + JdbcRoundTripCounter.class.getName(),
+                        "--escrow.journal.dir=build/test-data/" + db,
+                        "--logging.level.root=WARN")) {
+            ProjectService projectService = context.getBean(ProjectService.class);
+            List<ProjectCreateDto> dtos = dtos();
+            for (int i = 0; i < WARMUP_CALLS; i++) {
+                projectService.createAll(dtos);
+            }
+            long[] nanos = new long[MEASURED_CALLS];
+            JdbcRoundTripCounter.COUNT.set(0);
+            for (int i = 0; i < MEASURED_CALLS; i++) {
+                long start = System.nanoTime();
+                projectService.createAll(dtos);
+                nanos[i] = System.nanoTime() - start;
+            }
+            Arrays.sort(nanos);
+            return new Result(JdbcRoundTripCounter.COUNT.get() / MEASURED_CALLS, nanos[MEASURED_CALLS / 2] / 1_000_000.0);
+        }
+    }
+
+    private static List<ProjectCreateDto> dtos() {
+        List<ProjectCreateDto> dtos = new ArrayList<>(PROJECTS_PER_CALL);
+        for (int i = 0; i < PROJECTS_PER_CALL; i++) {
+            ProjectCreateDto dto = new ProjectCreateDto();
+            dto.setTitle("bulk-" + i);
+            dto.setDescription("batch insert benchmark");
+            dto.setEscrowAmountXrp(10L);
+            dtos.add(dto);
+        }
+        return dtos;
+    }
+
+    /** hibernate.session.events.auto 로 모든 세션에 등록. 단건 실행과 배치 실행을 각각 JDBC 왕복 1회로 셈 */
+    public static class JdbcRoundTripCounter implements SessionEventListener {
+
+        private static final long serialVersionUID = 1L;
+
+        static final AtomicLong COUNT = new AtomicLong();
+
+        @Override
+        public void jdbcExecuteStatementStart() {
+            COUNT.incrementAndGet();
+        }
+
+        @Override
+        public void jdbcExecuteBatchStart() {
+            COUNT.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.uniqdata.backend.reconciliation;
+
+import com.uniqdata.backend.core.CoreClient;
+import com.uniqdata.backend.participant.Participant;
+import com.uniqdata.backend.participant.ParticipantRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:reconciliation-test;DB_CLOSE_DELAY=-1",
+        "escrow.journal.dir=build/test-data/reconciliation-${random.uuid}"
+})
+class EscrowReconciliationServiceTest {
+
+    private static final String OWNER = "rEscrowOwnerWallet000000000000000";
+    private static final long PROJECT_ID = 7L;
+
+    @Autowired
+    private EscrowReconciliationService reconciliationService;
+    @SpyBean
+    private ParticipantRepository participantRepository;
+    @MockBean
+    private CoreClient coreClient;
+
+    @BeforeEach
+    void setUp() {
+        participantRepository.deleteAll();
+    }
+
+    @AfterEach
+    void restoreDefaults() {
+        ReflectionTestUtils.setField(reconciliationService, "participantPageSize", 1000);
+        ReflectionTestUtils.setField(reconciliationService, "timeBudget", Duration.ofMinutes(10));
+    }
+
+    @Test
+    @DisplayName("원장 스냅샷의 두 번째 페이지부터 첫 페이지 ledgerIndex 로 고정해 조회")
+    void pinsLaterLedgerPagesToFirstPageLedgerIndex() {
+        when(coreClient.getEscrowStatusPage(isNull(), anyInt(), isNull()))
+                .thenReturn(page(500L, "M1", item("TX-1", "rDest", 1L)));
+        when(coreClient.getEscrowStatusPage(eq("M1"), anyInt(), eq(500L)))
+                .thenReturn(page(503L, "M2", item("TX-2", "rDest", 1L)));
+        when(coreClient.getEscrowStatusPage(eq("M2"), anyInt(), eq(500L)))
+                .thenReturn(page(507L, null, item("TX-3", "rDest", 1L)));
+
+        EscrowReconciliationReport report = reconciliationService.reconcile();
+
+        verify(coreClient).getEscrowStatusPage(eq("M1"), anyInt(), eq(500L));
+        verify(coreClient).getEscrowStatusPage(eq("M2"), anyInt(), eq(500L));
+        assertThat(report.ledgerIndex()).isEqualTo(500L);
+        assertThat(report.ledgerEscrows()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("MISSING·MISMATCHED·ORPHANED 분류, 스냅샷 이후 참여·탈퇴 건은 판정 제외")
+    void classifiesDiscrepanciesAgainstSnapshot() {
+        Instant past = Instant.now().minusSeconds(3600);
+        Instant later = Instant.now().plusSeconds(3600);
+        participant("rMatched", "TX-OK", true, past, null);
+        Participant missing = participant("rMissing", "TX-MISSING", true, past, null);
+        Participant mismatched = participant("rMismatched", "TX-WRONG-DEST", true, past, null);
+        Participant withdrawn = participant("rWithdrawn", "TX-WITHDRAWN", false, past, past.plusSeconds(60));
+        participant("rWithdrawnLater", "TX-WITHDRAWN-LATER", false, past, later);
+        participant("rEnrolledLater", "TX-ENROLLED-LATER", true, later, null);
+        when(coreClient.getEscrowStatusPage(isNull(), anyInt(), isNull())).thenReturn(page(900L, null,
+                item("TX-OK", "rMatched", PROJECT_ID),
+                item("TX-WRONG-DEST", "rSomeoneElse", PROJECT_ID),
+                item("TX-WITHDRAWN", "rWithdrawn", PROJECT_ID),
+                item("TX-WITHDRAWN-LATER", "rWithdrawnLater", PROJECT_ID),
+                item("TX-NO-PARTICIPANT", "rStranger", PROJECT_ID)));
+
+        EscrowReconciliationReport report = reconciliationService.reconcile();
+
+        assertThat(report.completed()).isTrue();
+        assertThat(report.participantsScanned()).isEqualTo(6);
+        assertThat(report.counts()).containsEntry(EscrowDiscrepancy.Type.MISSING, 1L)
+                .containsEntry(EscrowDiscrepancy.Type.MISMATCHED, 1L)
+                .containsEntry(EscrowDiscrepancy.Type.ORPHANED, 2L);
+        assertThat(report.discrepancies())
+                .extracting(EscrowDiscrepancy::type, EscrowDiscrepancy::participantId, EscrowDiscrepancy::escrowTxHash)
+                .containsExactlyInAnyOrder(
+                        tuple(EscrowDiscrepancy.Type.MISSING, missing.getId(), "TX-MISSING"),
+                        tuple(EscrowDiscrepancy.Type.MISMATCHED, mismatched.getId(), "TX-WRONG-DEST"),
+                        tuple(EscrowDiscrepancy.Type.ORPHANED, withdrawn.getId(), "TX-WITHDRAWN"),
+                        tuple(EscrowDiscrepancy.Type.ORPHANED, null, "TX-NO-PARTICIPANT"));
+    }
+
+    @Test
+    @DisplayName("참여자를 id 키셋 페이지로 끝까지 스캔")
+    void scansParticipantsByIdKeyset() {
+        ReflectionTestUtils.setField(reconciliationService, "participantPageSize", 2);
+        Instant past = Instant.now().minusSeconds(3600);
+        Participant[] saved = new Participant[5];
+        CoreClient.CoreEscrowStatusItem[] items = new CoreClient.CoreEscrowStatusItem[5];
+        for (int i = 0; i < 5; i++) {
+            saved[i] = participant("rKeyset" + i, "TX-K" + i, true, past, null);
+            items[i] = item("TX-K" + i, "rKeyset" + i, PROJECT_ID);
+        }
+        when(coreClient.getEscrowStatusPage(isNull(), anyInt(), isNull())).thenReturn(page(900L, null, items));
+
+        EscrowReconciliationReport report = reconciliationService.reconcile();
+
+        verify(participantRepository).findEscrowRefsAfter(eq(0L), any());
+        verify(participantRepository).findEscrowRefsAfter(eq(saved[1].getId()), any());
+        verify(participantRepository).findEscrowRefsAfter(eq(saved[3].getId()), any());
+        verify(participantRepository, times(3)).findEscrowRefsAfter(any(), any());
+        assertThat(report.completed()).isTrue();
+        assertThat(report.participantsScanned()).isEqualTo(5);
+        assertThat(report.lastParticipantId()).isEqualTo(saved[4].getId());
+        assertThat(report.discrepancies()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("시간 예산을 넘기면 미완료로 중단하고 잔여 원장을 ORPHANED 로 판정하지 않음")
+    void stopsAtTimeBudgetWithoutOrphanSweep() {
+        ReflectionTestUtils.setField(reconciliationService, "timeBudget", Duration.ofMillis(200));
+        participant("rBudget", "TX-BUDGET", true, Instant.now().minusSeconds(3600), null);
+        when(coreClient.getEscrowStatusPage(isNull(), anyInt(), isNull())).thenAnswer(invocation -> {
+            Thread.sleep(300);
+            return page(900L, null, item("TX-NO-PARTICIPANT", "rStranger", PROJECT_ID));
+        });
+
+        EscrowReconciliationReport report = reconciliationService.reconcile();
+
+        assertThat(report.completed()).isFalse();
+        assertThat(report.ledgerEscrows()).isEqualTo(1);
+        assertThat(report.participantsScanned()).isZero();
+        assertThat(report.discrepancies()).isEmpty();
+        verify(participantRepository, times(0)).findEscrowRefsAfter(any(), any());
+    }
+
+    private Participant participant(String address, String txHash, boolean active, Instant enrolledAt, Instant withdrawnAt) {
+        Participant participant = Participant.builder()
+                .projectId(PROJECT_ID)
+                .participantAddress(address)
+                .escrowOwnerAddress(OWNER)
+                .escrowTxHash(txHash)
+                .active(active)
+                .enrolledAt(enrolledAt)
+                .build();
+        participant.setWithdrawnAt(withdrawnAt);
+        return participantRepository.save(participant);
+    }
+
+    private CoreClient.CoreEscrowStatusItem item(String txHash, String destination, long destinationTag) {
+        return new CoreClient.CoreEscrowStatusItem(txHash, OWNER, destination, destinationTag, "1000000", null, null);
+    }
+
+    private CoreClient.CoreEscrowStatusPage page(long ledgerIndex, String marker, CoreClient.CoreEscrowStatusItem... items) {
+        return new CoreClient.CoreEscrowStatusPage(OWNER, ledgerIndex, Arrays.asList(items), marker);
+    }
+}
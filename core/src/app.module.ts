@@ -1,8 +1,9 @@
 import { Module } from '@nestjs/common';
 import { XrplModule } from './xrpl/xrpl.module';
 import { EscrowModule } from './escrow/escrow.module';
+import { EscrowEventsModule } from './escrow-events/escrow-events.module';
 
 @Module({
-  imports: [XrplModule, EscrowModule],
+  imports: [XrplModule, EscrowModule, EscrowEventsModule],
 })
 export class AppModule {}
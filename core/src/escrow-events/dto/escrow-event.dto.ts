@@ -0,0 +1,39 @@
+import { ApiProperty, ApiPropertyOptional } from '@nestjs/swagger';
+
+export type EscrowEventType = 'CREATED' | 'FINISHED' | 'CANCELLED';
+
+/**
+ * 에스크로 생명주기 이벤트 (validated 트랜잭션 기준). Backend 로 배치 전송됨.
+ * ownerAddress + offerSequence 로 참여자를 식별 (createEscrow 응답과 동일한 값)
+ */
+export class EscrowLifecycleEventDto {
+  @ApiProperty({ enum: ['CREATED', 'FINISHED', 'CANCELLED'] })
+  type: EscrowEventType;
+
+  @ApiProperty({ description: '이벤트를 만든 트랜잭션 해시' })
+  txHash: string;
+
+  @ApiProperty({ description: '에스크로 소유 주소 (Core 에스크로 지갑)' })
+  ownerAddress: string;
+
+  @ApiProperty({ description: 'EscrowCreate 의 Sequence (= 취소/완료 시 OfferSequence)' })
+  offerSequence: number;
+
+  @ApiProperty({ description: '트랜잭션이 포함된 validated ledger index' })
+  ledgerIndex: number;
+
+  @ApiPropertyOptional({ description: '수령자 주소 (CREATED)' })
+  destination?: string;
+
+  @ApiPropertyOptional({ description: 'DestinationTag = projectId (CREATED)' })
+  destinationTag?: number;
+
+  @ApiPropertyOptional({ description: '예치 금액 drops (CREATED)' })
+  amountDrops?: string;
+
+  @ApiPropertyOptional({ description: 'FinishAfter, Ripple epoch 초 (CREATED)' })
+  finishAfter?: number;
+
+  @ApiPropertyOptional({ description: 'CancelAfter, Ripple epoch 초 (CREATED). 지나면 Backend 가 EXPIRED 로 표시' })
+  cancelAfter?: number;
+}
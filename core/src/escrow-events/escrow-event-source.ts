@@ -0,0 +1,18 @@
+import { EscrowLifecycleEventDto } from './dto/escrow-event.dto';
+
+export const ESCROW_EVENT_SOURCE = Symbol('ESCROW_EVENT_SOURCE');
+
+/**
+ * 에스크로 이벤트 공급원. 운영은 XRPL 계정 구독(XrplEscrowEventSource),
+ * 로컬/테스트는 SimulatedEscrowEventSource (ESCROW_EVENT_SOURCE=simulated)
+ */
+export interface EscrowEventSource {
+  /**
+   * fromLedgerIndex 가 있으면 그 ledger 부터(포함) 놓친 이벤트를 보충한 뒤 실시간 이벤트 전달.
+   * onEvent 가 false 를 돌려주면(수신 버퍼 가득) 그 이벤트의 ledger 에서 전달을 멈추고 resume() 을 기다림
+   */
+  start(onEvent: (event: EscrowLifecycleEventDto) => boolean, fromLedgerIndex?: number): Promise<void>;
+  /** 전달을 멈춘 뒤 수신 쪽 버퍼가 비면 호출. 멈춘 ledger 부터 다시 보충 */
+  resume(): Promise<void>;
+  stop(): Promise<void>;
+}
@@ -0,0 +1,26 @@
+import { Body, Controller, Inject, NotFoundException, Post } from '@nestjs/common';
+import { ApiOperation, ApiResponse, ApiTags } from '@nestjs/swagger';
+import { ESCROW_EVENT_SOURCE, EscrowEventSource } from './escrow-event-source';
+import { SimulatedEscrowEventSource } from './simulated-escrow-event-source';
+import { EscrowLifecycleEventDto } from './dto/escrow-event.dto';
+
+@Controller('escrow-events')
+export class EscrowEventsController {
+  constructor(@Inject(ESCROW_EVENT_SOURCE) private readonly source: EscrowEventSource) {}
+
+  @Post('simulate')
+  @ApiTags('Escrow')
+  @ApiOperation({
+    summary: '에스크로 이벤트 주입 (시뮬레이션)',
+    description:
+      'ESCROW_EVENT_SOURCE=simulated 일 때만 사용 가능. XRPL 트랜잭션 스트림 대신 이벤트를 넣어 Backend 배치 전송/상태 반영을 확인합니다.',
+  })
+  @ApiResponse({ status: 201, description: '이벤트 주입 결과 (accepted=false 면 전송 버퍼가 가득 차 거절됨)' })
+  @ApiResponse({ status: 404, description: '시뮬레이션 모드가 아님' })
+  simulate(@Body() body: EscrowLifecycleEventDto) {
+    if (!(this.source instanceof SimulatedEscrowEventSource)) {
+      throw new NotFoundException('Simulated escrow event source is not enabled');
+    }
+    return { accepted: this.source.emit(body) };
+  }
+}
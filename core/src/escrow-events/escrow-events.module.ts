@@ -0,0 +1,23 @@
+import { Module } from '@nestjs/common';
+import { XrplService } from '../xrpl/xrpl.service';
+import { ESCROW_EVENT_SOURCE } from './escrow-event-source';
+import { XrplEscrowEventSource } from './xrpl-escrow-event-source';
+import { SimulatedEscrowEventSource } from './simulated-escrow-event-source';
+import { EscrowEventsService } from './escrow-events.service';
+import { EscrowEventsController } from './escrow-events.controller';
+
+@Module({
+  controllers: [EscrowEventsController],
+  providers: [
+    {
+      provide: ESCROW_EVENT_SOURCE,
+      useFactory: (xrpl: XrplService) =>
+        process.env.ESCROW_EVENT_SOURCE === 'simulated'
+          ? new SimulatedEscrowEventSource()
+          : new XrplEscrowEventSource(xrpl),
+      inject: [XrplService],
+    },
+    EscrowEventsService,
+  ],
+})
+export class EscrowEventsModule {}
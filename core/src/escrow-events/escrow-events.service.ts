@@ -0,0 +1,115 @@
+import { Inject, Injectable, Logger, OnApplicationBootstrap, OnModuleDestroy } from '@nestjs/common';
+import { ESCROW_EVENT_SOURCE, EscrowEventSource } from './escrow-event-source';
+import { EscrowLifecycleEventDto } from './dto/escrow-event.dto';
+
+/**
+ * 에스크로 이벤트를 모아서 Backend 수집 API 로 배치 전송.
+ * BATCH_SIZE 가 차거나 FLUSH_MS 마다 전송, 실패 시 버퍼에 남겨 다음 주기에 재시도.
+ * 버퍼가 MAX_BUFFER 에 차면 새 이벤트를 거절해 공급원이 그 ledger 에서 멈추게 하고(역압),
+ * 버퍼를 다 보낸 뒤 resume() 으로 멈춘 ledger 부터 다시 받음 — 이벤트를 버리지 않음.
+ */
+@Injectable()
+export class EscrowEventsService implements OnApplicationBootstrap, OnModuleDestroy {
+  private readonly logger = new Logger(EscrowEventsService.name);
+  private readonly ingestUrl = `${process.env.BACKEND_BASE_URL || 'http://localhost:8080'}/api/v2/internal/escrow-events`;
+  private readonly cursorUrl = `${this.ingestUrl}/cursor`;
+  private readonly batchSize = parseInt(process.env.ESCROW_EVENTS_BATCH_SIZE || '100', 10);
+  private readonly flushMs = parseInt(process.env.ESCROW_EVENTS_FLUSH_MS || '1000', 10);
+  private readonly maxBuffer = parseInt(process.env.ESCROW_EVENTS_MAX_BUFFER || '10000', 10);
+
+  private buffer: EscrowLifecycleEventDto[] = [];
+  private flushing = false;
+  private backpressured = false;
+  private timer?: NodeJS.Timeout;
+
+  constructor(@Inject(ESCROW_EVENT_SOURCE) private readonly source: EscrowEventSource) {}
+
+  async onApplicationBootstrap() {
+    if (process.env.ESCROW_EVENTS_ENABLED === 'false') {
+      this.logger.log('[escrowEvents] 비활성 (ESCROW_EVENTS_ENABLED=false)');
+      return;
+    }
+    try {
+      const fromLedgerIndex = await this.fetchCursor();
+      await this.source.start((event) => this.enqueue(event), fromLedgerIndex);
+      this.timer = setInterval(() => void this.flush(), this.flushMs);
+      this.logger.log(
+        `[escrowEvents] 시작 | source=${this.source.constructor.name} | ingestUrl=${this.ingestUrl} | fromLedger=${fromLedgerIndex ?? '-'}`,
+      );
+    } catch (err) {
+      this.logger.error(
+        `[escrowEvents] 이벤트 구독 실패, 푸시 비활성 | error=${err instanceof Error ? err.message : String(err)}`,
+        err instanceof Error ? err.stack : undefined,
+      );
+    }
+  }
+
+  async onModuleDestroy() {
+    if (this.timer) clearInterval(this.timer);
+    await this.source.stop();
+    await this.flush();
+  }
+
+  /** Backend 가 마지막으로 받은 ledger index. Core 재시작 중 놓친 이벤트를 이 다음부터 보충 */
+  private async fetchCursor(): Promise<number | undefined> {
+    try {
+      const res = await fetch(this.cursorUrl, { signal: AbortSignal.timeout(5000) });
+      if (!res.ok) throw new Error(`HTTP ${res.status}`);
+      const body = (await res.json()) as { ledgerIndex?: number | null };
+      return body.ledgerIndex ?? undefined;
+    } catch (err) {
+      this.logger.warn(
+        `[escrowEvents] Backend cursor 조회 실패, 보충 없이 시작 | error=${err instanceof Error ? err.message : String(err)}`,
+      );
+      return undefined;
+    }
+  }
+
+  /** 버퍼가 가득 차 받지 못하면 false (공급원이 멈췄다가 resume() 때 다시 보냄) */
+  enqueue(event: EscrowLifecycleEventDto): boolean {
+    if (this.buffer.length >= this.maxBuffer) {
+      if (!this.backpressured) {
+        this.backpressured = true;
+        this.logger.warn(
+          `[escrowEvents] 버퍼 가득, 수신 중단 후 전송 대기 | buffered=${this.buffer.length} | ledger=${event.ledgerIndex}`,
+        );
+      }
+      void this.flush();
+      return false;
+    }
+    this.buffer.push(event);
+    if (this.buffer.length >= this.batchSize) void this.flush();
+    return true;
+  }
+
+  async flush(): Promise<void> {
+    if (this.flushing) return;
+    if (this.buffer.length === 0) {
+      // 버퍼를 다 보냈으니 역압으로 멈춘 공급원 재개 (멈춘 적 없으면 아무것도 안 함, 재개 실패 시 다음 주기 재시도)
+      this.backpressured = false;
+      await this.source.resume();
+      return;
+    }
+    this.flushing = true;
+    try {
+      while (this.buffer.length > 0) {
+        const batch = this.buffer.slice(0, this.batchSize);
+        const res = await fetch(this.ingestUrl, {
+          method: 'POST',
+          headers: { 'Content-Type': 'application/json' },
+          body: JSON.stringify({ events: batch }),
+          signal: AbortSignal.timeout(5000),
+        });
+        if (!res.ok) throw new Error(`HTTP ${res.status}`);
+        this.buffer.splice(0, batch.length);
+        this.logger.debug(`[escrowEvents] 전송 | count=${batch.length} | remaining=${this.buffer.length}`);
+      }
+    } catch (err) {
+      this.logger.warn(
+        `[escrowEvents] Backend 전송 실패, 다음 주기 재시도 | buffered=${this.buffer.length} | error=${err instanceof Error ? err.message : String(err)}`,
+      );
+    } finally {
+      this.flushing = false;
+    }
+  }
+}
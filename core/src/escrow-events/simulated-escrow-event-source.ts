@@ -0,0 +1,26 @@
+import { EscrowEventSource } from './escrow-event-source';
+import { EscrowLifecycleEventDto } from './dto/escrow-event.dto';
+
+/**
+ * XRPL 연결 없이 이벤트를 직접 주입하는 공급원 (ESCROW_EVENT_SOURCE=simulated).
+ * POST /api/escrow-events/simulate 또는 테스트 코드에서 emit() 호출.
+ */
+export class SimulatedEscrowEventSource implements EscrowEventSource {
+  private onEvent?: (event: EscrowLifecycleEventDto) => boolean;
+
+  async start(onEvent: (event: EscrowLifecycleEventDto) => boolean, _fromLedgerIndex?: number): Promise<void> {
+    this.onEvent = onEvent;
+  }
+
+  /** 다시 보낼 원장이 없음. 버퍼가 가득 차 거절된 주입 이벤트는 호출한 쪽이 다시 보내야 함 */
+  async resume(): Promise<void> {}
+
+  async stop(): Promise<void> {
+    this.onEvent = undefined;
+  }
+
+  /** 버퍼가 가득 차 거절되면 false */
+  emit(event: EscrowLifecycleEventDto): boolean {
+    return this.onEvent?.(event) ?? false;
+  }
+}
@@ -0,0 +1,160 @@
+import { Logger } from '@nestjs/common';
+import { TransactionStream } from 'xrpl';
+import { XrplService } from '../xrpl/xrpl.service';
+import { EscrowEventSource } from './escrow-event-source';
+import { EscrowEventType, EscrowLifecycleEventDto } from './dto/escrow-event.dto';
+
+const TX_TYPES: Record<string, EscrowEventType> = {
+  EscrowCreate: 'CREATED',
+  EscrowFinish: 'FINISHED',
+  EscrowCancel: 'CANCELLED',
+};
+
+const BACKFILL_PAGE_SIZE = 200;
+
+/** 스트림 메시지와 account_tx 항목의 공통 형태 (API v1: tx / v2: tx_json) */
+type RawTransaction = {
+  tx_json?: Record<string, unknown>;
+  transaction?: Record<string, unknown>;
+  tx?: Record<string, unknown>;
+  hash?: string;
+  ledger_index?: number;
+  validated?: boolean;
+  meta?: unknown;
+};
+
+/**
+ * 에스크로 지갑 계정을 1번 구독해서 EscrowCreate/Finish/Cancel (tesSUCCESS, validated) 만 이벤트로 변환.
+ * 구독(최초·재연결)할 때마다 마지막으로 본 ledger 부터(포함) account_tx 로 보충 — 끊긴 동안의 이벤트 유실 방지.
+ * 커서 ledger 는 일부 트랜잭션만 전달됐을 수 있어 다시 읽음. 보충분과 스트림이 겹쳐 중복될 수 있으나
+ * Backend 가 ledger index 로 걸러냄 (supersedes).
+ * 수신 쪽이 이벤트를 거절하면(전송 버퍼 가득) 그 ledger 에서 멈추고 이후 스트림은 무시하다가,
+ * resume() 때 멈춘 ledger 부터 다시 보충 — 버리는 대신 원장을 다시 읽어 유실 없이 따라잡음.
+ */
+export class XrplEscrowEventSource implements EscrowEventSource {
+  private readonly logger = new Logger(XrplEscrowEventSource.name);
+  private onEvent?: (event: EscrowLifecycleEventDto) => boolean;
+  private walletAddress?: string;
+  private lastLedgerIndex?: number;
+  /** 거절로 멈춘 상태면 다시 보충을 시작할 ledger (포함) */
+  private pausedAt?: number;
+  private resuming = false;
+
+  constructor(private readonly xrpl: XrplService) {}
+
+  async start(onEvent: (event: EscrowLifecycleEventDto) => boolean, fromLedgerIndex?: number): Promise<void> {
+    this.onEvent = onEvent;
+    this.lastLedgerIndex = fromLedgerIndex;
+    this.walletAddress = await this.xrpl.getEscrowWalletAddress();
+    await this.xrpl.subscribeAccounts(
+      [this.walletAddress],
+      (stream) => this.handle(stream as unknown as RawTransaction),
+      () => this.backfill(),
+    );
+  }
+
+  async resume(): Promise<void> {
+    if (!this.onEvent || this.pausedAt == null || this.resuming) return;
+    const from = this.pausedAt;
+    this.pausedAt = undefined;
+    this.resuming = true;
+    try {
+      this.logger.log(`[escrowEvents] 전달 재개, 멈춘 ledger 부터 보충 | fromLedger=${from}`);
+      await this.replay(from);
+    } catch (err) {
+      // 다음 resume() 때 같은 ledger 부터 다시 시도
+      this.pausedAt = Math.min(this.pausedAt ?? from, from);
+      this.logger.warn(
+        `[escrowEvents] 재개 보충 실패 | fromLedger=${from} | error=${err instanceof Error ? err.message : String(err)}`,
+      );
+    } finally {
+      this.resuming = false;
+    }
+  }
+
+  async stop(): Promise<void> {
+    this.onEvent = undefined;
+  }
+
+  private async backfill(): Promise<void> {
+    if (!this.walletAddress) return;
+    if (this.lastLedgerIndex == null) {
+      // 수신 이력 없음: 현재 validated ledger 를 기준점으로 삼고, 이후 재연결 때부터 보충
+      this.lastLedgerIndex = await this.xrpl.getClient().getLedgerIndex();
+      return;
+    }
+    // 멈춘 상태면 resume() 이 멈춘 ledger(≤ lastLedgerIndex)부터 보충함
+    if (this.pausedAt != null) return;
+    await this.replay(this.lastLedgerIndex);
+  }
+
+  /** from ledger 부터(포함) account_tx 로 다시 읽어 전달. 도중에 거절되면 거기서 멈춤 */
+  private async replay(from: number): Promise<void> {
+    if (!this.walletAddress) return;
+    let marker: unknown;
+    let count = 0;
+    do {
+      const page = await this.xrpl.getAccountTransactionsPage(this.walletAddress, from, BACKFILL_PAGE_SIZE, marker);
+      for (const entry of page.transactions) {
+        if (this.handle(entry as RawTransaction)) count++;
+        if (this.pausedAt != null) break;
+      }
+      marker = page.marker;
+    } while (marker && this.pausedAt == null);
+    this.logger.log(
+      `[escrowEvents] account_tx 보충 | fromLedger=${from} | events=${count}${this.pausedAt != null ? ` | pausedAt=${this.pausedAt}` : ''}`,
+    );
+  }
+
+  /** 에스크로 이벤트로 변환해 전달했으면 true */
+  private handle(raw: RawTransaction): boolean {
+    // 멈춘 동안의 스트림은 resume() 보충에서 다시 읽으므로 무시 (커서도 움직이지 않음)
+    if (!this.onEvent || !raw.validated || this.pausedAt != null) return false;
+    const tx = raw.tx_json ?? raw.transaction ?? raw.tx;
+    if (!tx) return false;
+    const ledgerIndex = Number(raw.ledger_index ?? tx.ledger_index ?? 0);
+    const type = TX_TYPES[String(tx.TransactionType)];
+    const meta = raw.meta as { TransactionResult?: string } | undefined;
+    if (!type || meta?.TransactionResult !== 'tesSUCCESS') {
+      this.advance(ledgerIndex);
+      return false;
+    }
+
+    // Create: 소유자 = Account, 시퀀스 = Sequence / Finish·Cancel: 소유자 = Owner, 시퀀스 = OfferSequence
+    const ownerAddress = String(type === 'CREATED' ? tx.Account : tx.Owner);
+    if (ownerAddress !== this.walletAddress) {
+      this.advance(ledgerIndex);
+      return false;
+    }
+    const offerSequence = Number(type === 'CREATED' ? tx.Sequence : tx.OfferSequence);
+    const event: EscrowLifecycleEventDto = {
+      type,
+      txHash: String(raw.hash ?? tx.hash ?? ''),
+      ownerAddress,
+      offerSequence,
+      ledgerIndex,
+      ...(type === 'CREATED'
+        ? {
+            destination: tx.Destination as string | undefined,
+            destinationTag: tx.DestinationTag as number | undefined,
+            amountDrops: tx.Amount != null ? String(tx.Amount) : undefined,
+            finishAfter: tx.FinishAfter as number | undefined,
+            cancelAfter: tx.CancelAfter as number | undefined,
+          }
+        : {}),
+    };
+    if (!this.onEvent(event)) {
+      // 버리지 않고 이 ledger 에서 멈춤. 같은 ledger 의 앞선 이벤트는 재보충 때 중복되지만 Backend 가 걸러냄
+      this.pausedAt = ledgerIndex;
+      this.logger.warn(`[escrowEvents] 수신 버퍼 가득, 전달 중단 | pausedAt=${ledgerIndex} | txHash=${event.txHash}`);
+      return false;
+    }
+    this.logger.debug(`[escrowEvents] ${type} | offerSequence=${offerSequence} | txHash=${event.txHash}`);
+    this.advance(ledgerIndex);
+    return true;
+  }
+
+  private advance(ledgerIndex: number): void {
+    if (ledgerIndex > (this.lastLedgerIndex ?? 0)) this.lastLedgerIndex = ledgerIndex;
+  }
+}
@@ -0,0 +1,28 @@
+import { ApiProperty, ApiPropertyOptional } from '@nestjs/swagger';
+
+/** EscrowCreate 트랜잭션 조회 결과. 원장 에스크로의 txHash(PreviousTxnID)로 OfferSequence 를 복원할 때 사용 */
+export class EscrowCreateTxDto {
+  @ApiProperty({ description: 'EscrowCreate 트랜잭션 해시' })
+  txHash: string;
+
+  @ApiProperty({ description: '에스크로 소유 주소 (Account)' })
+  ownerAddress: string;
+
+  @ApiProperty({ description: 'EscrowCreate 의 Sequence (= 취소/완료 시 OfferSequence)' })
+  offerSequence: number;
+
+  @ApiProperty({ description: '에스크로 수령자 (참여자 주소)' })
+  destination: string;
+
+  @ApiPropertyOptional({ description: 'DestinationTag (= projectId)' })
+  destinationTag?: number;
+
+  @ApiProperty({ description: '예치 금액 (drops)' })
+  amountDrops: string;
+
+  @ApiPropertyOptional({ description: '트랜잭션이 포함된 ledger index' })
+  ledgerIndex?: number;
+
+  @ApiProperty({ description: 'validated 여부' })
+  validated: boolean;
+}
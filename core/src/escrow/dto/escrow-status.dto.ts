@@ -0,0 +1,44 @@
+import { ApiProperty, ApiPropertyOptional } from '@nestjs/swagger';
+
+/** 원장(validated)에 남아 있는 에스크로 1건. Backend 정합성 검사용 */
+export class EscrowStatusItemDto {
+  @ApiProperty({
+    description: '에스크로를 마지막으로 변경한 트랜잭션 해시. 에스크로는 생성 후 변경되지 않으므로 EscrowCreate txHash 와 같음',
+  })
+  txHash: string;
+
+  @ApiProperty({ description: '에스크로 소유 주소 (Core 에스크로 지갑)' })
+  ownerAddress: string;
+
+  @ApiProperty({ description: '에스크로 수령자 (참여자 주소)' })
+  destination: string;
+
+  @ApiPropertyOptional({ description: 'DestinationTag (= projectId)' })
+  destinationTag?: number;
+
+  @ApiProperty({ description: '예치 금액 (drops)' })
+  amountDrops: string;
+
+  @ApiPropertyOptional({ description: 'FinishAfter (Ripple epoch 초)' })
+  finishAfter?: number;
+
+  @ApiPropertyOptional({ description: 'CancelAfter (Ripple epoch 초)' })
+  cancelAfter?: number;
+}
+
+/** 에스크로 상태 일괄 조회 응답 (account_objects 1페이지) */
+export class EscrowStatusPageDto {
+  @ApiProperty({ description: '조회 대상 에스크로 지갑 주소' })
+  ownerAddress: string;
+
+  @ApiPropertyOptional({ description: '조회 기준 validated ledger index' })
+  ledgerIndex?: number;
+
+  @ApiProperty({ type: [EscrowStatusItemDto] })
+  escrows: EscrowStatusItemDto[];
+
+  @ApiPropertyOptional({
+    description: '다음 페이지 marker. 없으면 마지막 페이지. 다음 호출 시 그대로 marker 쿼리로 전달',
+  })
+  marker?: string;
+}
@@ -1,3 +1,5 @@
 export * from './create-escrow.dto';
 export * from './cancel-escrow.dto';
 export * from './escrow-response.dto';
+export * from './escrow-status.dto';
+export * from './escrow-create-tx.dto';
@@ -1,5 +1,5 @@
-import { Body, Controller, Get, Post } from '@nestjs/common';
-import { ApiOperation, ApiResponse, ApiTags } from '@nestjs/swagger';
+import { Body, Controller, Get, Param, Post, Query } from '@nestjs/common';
+import { ApiOperation, ApiQuery, ApiResponse, ApiTags } from '@nestjs/swagger';
 import { EscrowService } from './escrow.service';
 import {
   CreateEscrowDto,
@@ -7,6 +7,8 @@ import {
   CreateEscrowResponseDto,
   CancelEscrowResponseDto,
   SummaryResponseDto,
+  EscrowStatusPageDto,
+  EscrowCreateTxDto,
 } from './dto';
 
 @Controller()
@@ -48,6 +50,48 @@ export class EscrowController {
     return this.escrow.cancelEscrow(body.ownerAddress, body.offerSequence);
   }
 
+  @Get('escrow/status')
+  @ApiTags('Escrow')
+  @ApiOperation({
+    summary: '에스크로 상태 일괄 조회 (정합성 검사용)',
+    description:
+      '에스크로 지갑이 소유한 원장상 에스크로를 account_objects 페이지 단위로 반환합니다. 응답의 marker 와 첫 페이지의 ledgerIndex 를 다음 호출에 넘겨 같은 원장 버전으로 전체를 순회하세요. Backend 는 txHash 로 참여자 escrowTxHash 와 대조합니다.',
+  })
+  @ApiQuery({ name: 'limit', required: false, description: '페이지 크기 (10~400, 기본 200)' })
+  @ApiQuery({ name: 'marker', required: false, description: '이전 응답의 marker' })
+  @ApiQuery({
+    name: 'ledgerIndex',
+    required: false,
+    description: '조회할 원장 버전. 첫 페이지 응답의 ledgerIndex 를 넘김 (생략 시 validated)',
+  })
+  @ApiResponse({ status: 200, description: '조회 성공', type: EscrowStatusPageDto })
+  @ApiResponse({ status: 500, description: 'XRPL 조회 실패 (ESCROW_WALLET_ADDRESS 확인)' })
+  async getEscrowStatus(
+    @Query('limit') limit?: string,
+    @Query('marker') marker?: string,
+    @Query('ledgerIndex') ledgerIndex?: string,
+  ) {
+    return this.escrow.getEscrowStatusPage({
+      limit: limit ? parseInt(limit, 10) : undefined,
+      marker: marker || undefined,
+      ledgerIndex: ledgerIndex ? parseInt(ledgerIndex, 10) : undefined,
+    });
+  }
+
+  @Get('escrow/tx/:txHash')
+  @ApiTags('Escrow')
+  @ApiOperation({
+    summary: 'EscrowCreate 트랜잭션 조회 (복구용)',
+    description:
+      '원장 에스크로의 txHash(PreviousTxnID)로 EscrowCreate 를 조회해 OfferSequence 를 반환합니다. Backend 저널 복구가 결과 미기록 참여자를 복원할 때 사용합니다.',
+  })
+  @ApiResponse({ status: 200, description: '조회 성공', type: EscrowCreateTxDto })
+  @ApiResponse({ status: 400, description: 'EscrowCreate 트랜잭션이 아님' })
+  @ApiResponse({ status: 500, description: 'XRPL 조회 실패 (txnNotFound 포함)' })
+  async getEscrowCreateTx(@Param('txHash') txHash: string) {
+    return this.escrow.getEscrowCreateTx(txHash);
+  }
+
   @Get('summary')
   @ApiTags('Summary')
   @ApiOperation({
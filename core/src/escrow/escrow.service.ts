@@ -1,7 +1,8 @@
-import { Injectable, Logger } from '@nestjs/common';
+import { BadRequestException, Injectable, Logger } from '@nestjs/common';
 import { XrplService } from '../xrpl/xrpl.service';
 import { EscrowCreate, EscrowCancel } from 'xrpl';
 import { isValidClassicAddress, isValidXAddress } from 'ripple-address-codec';
+import { EscrowCreateTxDto } from './dto';
 
 /** 1 XRP = 1,000,000 drops */
 const XRP_TO_DROPS = 1_000_000;
@@ -161,6 +162,83 @@ export class EscrowService {
     }
   }
 
+  /**
+   * 에스크로 지갑이 소유한 에스크로를 account_objects 페이지 단위로 일괄 조회.
+   * 에스크로마다 ledger_entry 를 호출하지 않고, Backend 정합성 검사가 marker 로 전체를 순회함.
+   */
+  async getEscrowStatusPage(params: { limit?: number; marker?: string; ledgerIndex?: number }): Promise<{
+    ownerAddress: string;
+    ledgerIndex?: number;
+    escrows: {
+      txHash: string;
+      ownerAddress: string;
+      destination: string;
+      destinationTag?: number;
+      amountDrops: string;
+      finishAfter?: number;
+      cancelAfter?: number;
+    }[];
+    marker?: string;
+  }> {
+    const ownerAddress = await this.xrpl.getEscrowWalletAddress();
+    const limit = params.limit && params.limit > 0 ? params.limit : 200;
+    try {
+      const page = await this.xrpl.getAccountObjectsPage(
+        ownerAddress,
+        'escrow',
+        limit,
+        params.marker,
+        params.ledgerIndex,
+      );
+      const escrows = page.objects.map((o) => ({
+        txHash: String(o.PreviousTxnID ?? ''),
+        ownerAddress: String(o.Account ?? ownerAddress),
+        destination: String(o.Destination ?? ''),
+        destinationTag: typeof o.DestinationTag === 'number' ? o.DestinationTag : undefined,
+        amountDrops: String(o.Amount ?? '0'),
+        finishAfter: typeof o.FinishAfter === 'number' ? o.FinishAfter : undefined,
+        cancelAfter: typeof o.CancelAfter === 'number' ? o.CancelAfter : undefined,
+      }));
+      this.logger.debug(
+        `[escrowStatus] 페이지 조회 | count=${escrows.length} | ledgerIndex=${page.ledgerIndex ?? 'unknown'} | hasNext=${page.marker != null}`,
+      );
+      return { ownerAddress, ledgerIndex: page.ledgerIndex, escrows, marker: page.marker };
+    } catch (err) {
+      const errMsg = err instanceof Error ? err.message : String(err);
+      this.logger.error(
+        `[escrowStatus] account_objects 조회 실패 | ownerAddress=${ownerAddress.slice(0, 12)}... | limit=${limit} | error=${errMsg}`,
+        err instanceof Error ? err.stack : undefined,
+      );
+      throw err;
+    }
+  }
+
+  /**
+   * EscrowCreate 트랜잭션 조회. 원장 에스크로의 PreviousTxnID(= 생성 txHash)로 OfferSequence 를 알아낼 때 사용
+   * (account_objects 에는 Sequence 가 없음). Backend 저널 복구에서 결과 미기록 참여자를 복원할 때 호출.
+   */
+  async getEscrowCreateTx(txHash: string): Promise<EscrowCreateTxDto> {
+    const found = await this.xrpl.getTransaction(txHash);
+    if (found.tx.TransactionType !== 'EscrowCreate') {
+      throw new BadRequestException(`Not an EscrowCreate transaction: ${txHash}`);
+    }
+    const sequence = found.tx.Sequence;
+    if (typeof sequence !== 'number') {
+      throw new BadRequestException(`EscrowCreate without Sequence: ${txHash}`);
+    }
+    this.logger.debug(`[escrowCreateTx] 조회 | txHash=${txHash} | offerSequence=${sequence} | validated=${found.validated}`);
+    return {
+      txHash: found.hash,
+      ownerAddress: String(found.tx.Account ?? ''),
+      offerSequence: sequence,
+      destination: String(found.tx.Destination ?? ''),
+      destinationTag: typeof found.tx.DestinationTag === 'number' ? found.tx.DestinationTag : undefined,
+      amountDrops: String(found.tx.Amount ?? '0'),
+      ledgerIndex: found.ledgerIndex,
+      validated: found.validated,
+    };
+  }
+
   /**
    * 대시보드 KPI: 에스크로 총액 등 (Wireframe의 GET /api/v2/dashboard/summary 대응)
    */
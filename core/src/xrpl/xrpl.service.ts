@@ -1,5 +1,5 @@
 import { Injectable, Logger, OnModuleInit, OnModuleDestroy } from '@nestjs/common';
-import { Client } from 'xrpl';
+import { Client, TransactionStream } from 'xrpl';
 
 @Injectable()
 export class XrplService implements OnModuleInit, OnModuleDestroy {
@@ -33,6 +33,29 @@ export class XrplService implements OnModuleInit, OnModuleDestroy {
     return this.client;
   }
 
+  /**
+   * 계정 트랜잭션 스트림 구독 (기존 client 재사용). 재연결 시 자동으로 다시 subscribe.
+   * onSubscribed 는 매 구독 직후 호출 — 끊겨 있던 동안의 트랜잭션을 account_tx 로 보충하는 용도.
+   */
+  async subscribeAccounts(
+    accounts: string[],
+    onTransaction: (stream: TransactionStream) => void,
+    onSubscribed?: () => Promise<void>,
+  ): Promise<void> {
+    this.client.on('transaction', onTransaction);
+    const subscribe = async () => {
+      await this.client.request({ command: 'subscribe', accounts });
+      this.logger.log(`[XRPL] 계정 구독 | accounts=${accounts.map((a) => a.slice(0, 12) + '...').join(',')}`);
+      if (onSubscribed) await onSubscribed();
+    };
+    this.client.on('connected', () => {
+      subscribe().catch((err) =>
+        this.logger.error(`[XRPL] 재연결 후 구독 실패 | error=${err instanceof Error ? err.message : String(err)}`),
+      );
+    });
+    await subscribe();
+  }
+
   async getBalance(address: string): Promise<string> {
     const resp = await this.client.request({
       command: 'account_info',
@@ -42,6 +65,85 @@ export class XrplService implements OnModuleInit, OnModuleDestroy {
     return balance || '0';
   }
 
+  /**
+   * account_objects 1페이지 조회. limit 는 rippled 상한(400)으로 잘림.
+   * marker 가 반환되면 다음 페이지가 있음. 다음 페이지는 첫 페이지의 ledgerIndex 를 넘겨 같은 원장 버전으로 고정
+   * ('validated' 로 계속 조회하면 페이지 사이에 원장이 바뀌어 marker 가 어긋나거나 항목이 빠지고 중복될 수 있음).
+   */
+  async getAccountObjectsPage(
+    address: string,
+    type: 'escrow',
+    limit: number,
+    marker?: string,
+    ledgerIndex?: number,
+  ): Promise<{ objects: Record<string, unknown>[]; marker?: string; ledgerIndex?: number }> {
+    const resp = await this.client.request({
+      command: 'account_objects',
+      account: address,
+      type,
+      limit: Math.min(Math.max(limit, 10), 400),
+      ledger_index: ledgerIndex ?? 'validated',
+      ...(marker ? { marker } : {}),
+    });
+    const result = resp.result as {
+      account_objects?: Record<string, unknown>[];
+      marker?: unknown;
+      ledger_index?: number;
+    };
+    return {
+      objects: result.account_objects ?? [],
+      marker: typeof result.marker === 'string' ? result.marker : undefined,
+      ledgerIndex: result.ledger_index,
+    };
+  }
+
+  /**
+   * 트랜잭션 1건 조회 (tx). API v1/v2 응답 차이(tx_json 유무)를 흡수해 트랜잭션 필드와 메타 정보를 반환.
+   */
+  async getTransaction(hash: string): Promise<{
+    tx: Record<string, unknown>;
+    hash: string;
+    ledgerIndex?: number;
+    validated: boolean;
+  }> {
+    const resp = await this.client.request({ command: 'tx', transaction: hash });
+    const result = resp.result as unknown as Record<string, unknown> & {
+      tx_json?: Record<string, unknown>;
+      hash?: string;
+      ledger_index?: number;
+      validated?: boolean;
+    };
+    return {
+      tx: result.tx_json ?? result,
+      hash: String(result.hash ?? hash),
+      ledgerIndex: result.ledger_index,
+      validated: result.validated === true,
+    };
+  }
+
+  /**
+   * account_tx 1페이지 조회 (오래된 것부터, validated ledger 까지).
+   * marker 가 반환되면 다음 페이지가 있음.
+   */
+  async getAccountTransactionsPage(
+    address: string,
+    ledgerIndexMin: number,
+    limit: number,
+    marker?: unknown,
+  ): Promise<{ transactions: Record<string, unknown>[]; marker?: unknown }> {
+    const resp = await this.client.request({
+      command: 'account_tx',
+      account: address,
+      ledger_index_min: ledgerIndexMin,
+      ledger_index_max: -1,
+      forward: true,
+      limit,
+      ...(marker ? { marker } : {}),
+    });
+    const result = resp.result as unknown as { transactions?: Record<string, unknown>[]; marker?: unknown };
+    return { transactions: result.transactions ?? [], marker: result.marker };
+  }
+
   /**
    * 주소만 필요할 때 사용. ESCROW_WALLET_ADDRESS를 사용 (secret 사용 안 함)
    */